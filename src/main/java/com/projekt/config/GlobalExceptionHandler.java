@@ -1,11 +1,13 @@
 package com.projekt.config;
 
 import com.projekt.exceptions.*;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -58,6 +60,21 @@ public class GlobalExceptionHandler {
         return ex.getMessage();
     }
 
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    @ExceptionHandler(FileTooLargeException.class)
+    @ResponseBody
+    public String handleFileTooLargeException(FileTooLargeException ex) {
+        return ex.getMessage();
+    }
+
+    // Raised by the multipart parser when a part or the whole request is over the spring.servlet.multipart limits.
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    @ResponseBody
+    public String handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
+        return "The uploaded files exceed the maximum upload size.";
+    }
+
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler(NameConflictException.class)
     @ResponseBody
@@ -78,4 +95,61 @@ public class GlobalExceptionHandler {
     public String handleResourceHasAssignedItemsException(ResourceHasAssignedItemsException ex) {
         return ex.getMessage();
     }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseBody
+    public String handleInvalidCursorException(InvalidCursorException ex) {
+        return ex.getMessage();
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(VersionConflictException.class)
+    @ResponseBody
+    public String handleVersionConflictException(VersionConflictException ex) {
+        return ex.getMessage();
+    }
+
+    // Raised on flush when another transaction changed the row after it was read.
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseBody
+    public String handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return "The resource was modified by another request.";
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidSyncTokenException.class)
+    @ResponseBody
+    public String handleInvalidSyncTokenException(InvalidSyncTokenException ex) {
+        return ex.getMessage();
+    }
+
+    @ResponseStatus(HttpStatus.GONE)
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    @ResponseBody
+    public String handleSyncTokenExpiredException(SyncTokenExpiredException ex) {
+        return ex.getMessage();
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(TicketImportException.class)
+    @ResponseBody
+    public String handleTicketImportException(TicketImportException ex) {
+        return ex.getMessage();
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidImageSizeException.class)
+    @ResponseBody
+    public String handleInvalidImageSizeException(InvalidImageSizeException ex) {
+        return ex.getMessage();
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(SearchPageOutOfRangeException.class)
+    @ResponseBody
+    public String handleSearchPageOutOfRangeException(SearchPageOutOfRangeException ex) {
+        return ex.getMessage();
+    }
 }
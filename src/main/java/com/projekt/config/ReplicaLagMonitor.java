@@ -0,0 +1,70 @@
+package com.projekt.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class ReplicaLagMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+
+    // Reads stay on the primary until the first check has confirmed that the replica is in sync.
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${sms.app.datasource.replica.lagCheckMs}")
+    public void checkReplicaLag() {
+        boolean available;
+
+        try {
+            Long lagSeconds = readLagSeconds();
+            available = lagSeconds != null && lagSeconds <= maxLagSeconds;
+
+            if (!available && replicaAvailable) {
+                logger.warn("Replica is {} seconds behind the primary, read-only transactions fall back to the primary",
+                        lagSeconds == null ? "an unknown number of" : lagSeconds);
+            }
+        } catch (SQLException ex) {
+            available = false;
+
+            if (replicaAvailable) {
+                logger.warn("Replica lag check failed, read-only transactions fall back to the primary: {}", ex.getMessage());
+            }
+        }
+
+        if (available && !replicaAvailable) {
+            logger.info("Replica is in sync, read-only transactions are routed to the replica");
+        }
+
+        replicaAvailable = available;
+    }
+
+    // Seconds_Behind_Source is NULL while replication is stopped or broken, and there is no row at all
+    // if the server is not configured as a replica. Both count as unknown lag.
+    private Long readLagSeconds() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) return null;
+
+            long lagSeconds = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? null : lagSeconds;
+        }
+    }
+}
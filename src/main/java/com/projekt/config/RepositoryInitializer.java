@@ -2,6 +2,7 @@ package com.projekt.config;
 
 import com.projekt.models.*;
 import com.projekt.repositories.*;
+import com.projekt.services.AttachmentStorage;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +12,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.LocalDate;
@@ -29,12 +31,14 @@ public class RepositoryInitializer {
     private final ImageRepository imageRepository;
     private final TicketRepository ticketRepository;
     private final TicketReplyRepository ticketReplyRepository;
+    private final AttachmentStorage attachmentStorage;
 
     public RepositoryInitializer(UserRepository userRepository, RoleRepository roleRepository,
                                  SoftwareRepository softwareRepository, KnowledgeRepository knowledgeRepository,
                                  CategoryRepository categoryRepository, PriorityRepository priorityRepository,
                                  StatusRepository statusRepository, ImageRepository imageRepository,
-                                 TicketRepository ticketRepository, TicketReplyRepository ticketReplyRepository) {
+                                 TicketRepository ticketRepository, TicketReplyRepository ticketReplyRepository,
+                                 AttachmentStorage attachmentStorage) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.softwareRepository = softwareRepository;
@@ -45,6 +49,7 @@ public class RepositoryInitializer {
         this.imageRepository = imageRepository;
         this.ticketRepository = ticketRepository;
         this.ticketReplyRepository = ticketReplyRepository;
+        this.attachmentStorage = attachmentStorage;
     }
 
     @Bean
@@ -159,14 +164,16 @@ public class RepositoryInitializer {
 
                 ticket.setCategory(categoryRepository.getReferenceById(1L));
 
-                Image image = new Image(1L,"1.png",null);
+                byte[] content;
                 try {
                     BufferedImage bi = ImageIO.read(getClass().getResourceAsStream("/images/1.png"));
-                    image.setContent(toByteArray(bi));
+                    content = toByteArray(bi);
                 } catch (IOException e) {
-                    image.setContent(createEmptyImage());
+                    content = createEmptyImage();
                 }
 
+                AttachmentStorage.StoredContent storedContent = attachmentStorage.store(new ByteArrayInputStream(content));
+                Image image = new Image(1L, "1.png", "image/png", storedContent.size(), storedContent.hash());
                 imageRepository.save(image);
 
                 List<Image> imageList = new ArrayList<>();
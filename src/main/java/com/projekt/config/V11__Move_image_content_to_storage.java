@@ -0,0 +1,67 @@
+package com.projekt.config;
+
+import com.projekt.services.AttachmentStorage;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Moves the image bytes still stored in the database to the attachment storage. Spring Boot hands JavaMigration beans
+// to Flyway, so this runs with the other migrations before the application serves any request, and no image is ever
+// read without its hash and size. V12 then makes those columns required and drops the bytes.
+@Component
+public class V11__Move_image_content_to_storage extends BaseJavaMigration {
+    private static final List<String> TABLES = List.of("images", "images_archive");
+
+    private final AttachmentStorage attachmentStorage;
+
+    @Value("${sms.app.attachments.migrationBatchSize}")
+    private int batchSize;
+
+    public V11__Move_image_content_to_storage(AttachmentStorage attachmentStorage) {
+        this.attachmentStorage = attachmentStorage;
+    }
+
+    // The rows are only filled in here and the bytes are dropped by V12, so a failed run rolls back to rows without a
+    // hash and starts over. Content it already stored is shared by hash or removed by the cleanup job.
+    @Override
+    public void migrate(Context context) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        for (String table : TABLES) {
+            List<Long> ids;
+
+            while (!(ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM " + table + " WHERE hash IS NULL ORDER BY id LIMIT ?", Long.class, batchSize)).isEmpty()) {
+                List<Object[]> batch = new ArrayList<>(ids.size());
+                for (Long id : ids) {
+                    batch.add(moveContent(jdbcTemplate, table, id));
+                }
+
+                jdbcTemplate.batchUpdate("UPDATE " + table + " SET content_type = ?, size = ?, hash = ? WHERE id = ?", batch);
+            }
+        }
+    }
+
+    // Reads one row at a time, so no more than a single image is held in memory.
+    private Object[] moveContent(JdbcTemplate jdbcTemplate, String table, Long id) {
+        return jdbcTemplate.query("SELECT name, content FROM " + table + " WHERE id = ?", resultSet -> {
+            resultSet.next();
+
+            try (InputStream content = resultSet.getBinaryStream("content")) {
+                AttachmentStorage.StoredContent stored = attachmentStorage.store(content);
+                return new Object[]{AttachmentStorage.contentTypeOf(resultSet.getString("name")), stored.size(), stored.hash(), id};
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to move the content of image " + id, ex);
+            }
+        }, id);
+    }
+}
@@ -1,55 +1,167 @@
 package com.projekt.controllers;
 
+import com.projekt.payload.request.TicketFilterRequest;
 import com.projekt.payload.request.add.AddTicketRequest;
 import com.projekt.payload.request.add.AddTicketReplyRequest;
 import com.projekt.payload.request.update.UpdateTicketStatusRequest;
+import com.projekt.payload.request.update.UpdateTicketsStatusRequest;
 import com.projekt.payload.request.update.UpdateTicketRequest;
+import com.projekt.payload.response.CursorPage;
+import com.projekt.payload.response.ImageDownload;
+import com.projekt.payload.response.SearchPage;
+import com.projekt.payload.response.TicketChangesResponse;
+import com.projekt.payload.response.TicketImportResponse;
 import com.projekt.payload.response.TicketResponse;
+import com.projekt.payload.response.TicketSummaryResponse;
 import com.projekt.services.*;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/tickets")
 public class TicketController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+    private static final Duration IMAGE_MAX_AGE = Duration.ofDays(365);
+    // Only raster images are shown in the browser; anything else, including SVG that can carry scripts, is downloaded.
+    private static final Set<MediaType> INLINE_IMAGE_TYPES = Set.of(
+            MediaType.IMAGE_PNG, MediaType.IMAGE_JPEG, MediaType.IMAGE_GIF, new MediaType("image", "webp"), new MediaType("image", "bmp")
+    );
+
     private final TicketService ticketService;
     private final TicketReplyService ticketReplyService;
     private final ImageService imageService;
+    private final TicketExportService ticketExportService;
+    private final TicketSearchService ticketSearchService;
+    private final TicketStreamService ticketStreamService;
+    private final TicketSyncService ticketSyncService;
+    private final TicketImportService ticketImportService;
 
-    public TicketController(TicketService ticketService, TicketReplyService ticketReplyService, ImageService imageService) {
+    public TicketController(TicketService ticketService, TicketReplyService ticketReplyService, ImageService imageService,
+                            TicketExportService ticketExportService, TicketSearchService ticketSearchService,
+                            TicketStreamService ticketStreamService, TicketSyncService ticketSyncService,
+                            TicketImportService ticketImportService) {
         this.ticketService = ticketService;
         this.ticketReplyService = ticketReplyService;
         this.imageService = imageService;
+        this.ticketExportService = ticketExportService;
+        this.ticketSearchService = ticketSearchService;
+        this.ticketStreamService = ticketStreamService;
+        this.ticketSyncService = ticketSyncService;
+        this.ticketImportService = ticketImportService;
     }
 
     @GetMapping
     @PreAuthorize("hasRole('OPERATOR')")
-    public List<TicketResponse> getAllTickets(){
-        return ticketService.getAll();
+    public ResponseEntity<List<?>> getAllTickets(@ModelAttribute @Valid TicketFilterRequest filter,
+                                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                                 @RequestParam(name = "limit", defaultValue = "50") int limit,
+                                                 @RequestParam(name = "view", defaultValue = VIEW_FULL) String view){
+        if (isSummaryView(view)) return toPageResponse(ticketService.getAllSummaries(filter, cursor, limit));
+
+        return toPageResponse(ticketService.getAll(filter, cursor, limit));
     }
 
     @GetMapping("/user")
     @PreAuthorize("hasRole('USER')")
-    public List<TicketResponse> getUserTickets(Principal principal){
-        return ticketService.getUserTickets(principal);
+    public ResponseEntity<List<?>> getUserTickets(@ModelAttribute @Valid TicketFilterRequest filter,
+                                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                                  @RequestParam(name = "limit", defaultValue = "50") int limit,
+                                                  @RequestParam(name = "view", defaultValue = VIEW_FULL) String view,
+                                                  Principal principal){
+        if (isSummaryView(view)) return toPageResponse(ticketService.getUserTicketSummaries(principal, filter, cursor, limit));
+
+        return toPageResponse(ticketService.getUserTickets(principal, filter, cursor, limit));
     }
 
     @GetMapping("/user/{userID}")
     @PreAuthorize("hasRole('OPERATOR')")
-    public List<TicketResponse> getTicketsByUserId(@PathVariable(name = "userID", required = false) Long userID){
-        return ticketService.getUserTickets(userID);
+    public ResponseEntity<List<?>> getTicketsByUserId(@PathVariable(name = "userID", required = false) Long userID,
+                                                      @ModelAttribute @Valid TicketFilterRequest filter,
+                                                      @RequestParam(name = "cursor", required = false) String cursor,
+                                                      @RequestParam(name = "limit", defaultValue = "50") int limit,
+                                                      @RequestParam(name = "view", defaultValue = VIEW_FULL) String view){
+        if (isSummaryView(view)) return toPageResponse(ticketService.getUserTicketSummaries(userID, filter, cursor, limit));
+
+        return toPageResponse(ticketService.getUserTickets(userID, filter, cursor, limit));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public ResponseEntity<List<TicketSummaryResponse>> searchTickets(@RequestParam(name = "q") String query,
+                                                                     @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                     @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        SearchPage<TicketSummaryResponse> result = ticketSearchService.search(query, page, limit);
+
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(result.totalHits()))
+                .body(result.items());
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public ResponseEntity<StreamingResponseBody> exportTickets() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tickets.ndjson\"")
+                .body(outputStream -> ticketExportService.exportAll(outputStream));
+    }
+
+    // Accepts one JSON ticket per line (or a JSON array) and reads it as a stream, so large files are never buffered.
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public TicketImportResponse importTickets(InputStream inputStream) throws IOException {
+        return ticketImportService.importTickets(inputStream);
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('USER', 'OPERATOR')")
+    public TicketChangesResponse getTicketChanges(@RequestParam(name = "since", required = false) String since,
+                                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                                  @RequestParam(name = "limit", defaultValue = "500") int limit,
+                                                  Principal principal) {
+        return ticketSyncService.getChanges(since, cursor, limit, principal);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('OPERATOR')")
+    public SseEmitter streamTicketEvents() {
+        return ticketStreamService.subscribe();
     }
 
     @GetMapping("{ticketID}")
     @PreAuthorize("hasAnyRole('USER', 'OPERATOR')")
-    public TicketResponse getTicketById(@PathVariable(name = "ticketID", required = false) Long ticketID, Principal principal) {
+    public TicketResponse getTicketById(@PathVariable(name = "ticketID", required = false) Long ticketID, Principal principal,
+                                        WebRequest webRequest) {
+        // Only the revision is read to answer If-None-Match, so unchanged tickets never load replies or images.
+        if (webRequest.checkNotModified(toETag(ticketService.getRevision(ticketID, principal)))) {
+            return null;
+        }
+
         return ticketService.getById(ticketID, principal);
     }
 
@@ -62,8 +174,9 @@ public class TicketController {
 
     @PutMapping
     @PreAuthorize("hasAnyRole('USER', 'OPERATOR')")
-    public String updateTicket(@RequestBody @Valid UpdateTicketRequest request, Principal principal) {
-        ticketService.update(request, principal);
+    public String updateTicket(@RequestBody @Valid UpdateTicketRequest request, Principal principal,
+                               @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ticketService.update(request, toRevision(ifMatch), principal);
         return "Ticket details updated";
     }
 
@@ -74,6 +187,34 @@ public class TicketController {
         return "Image added";
     }
 
+    // Range requests are answered by Spring with 206 Partial Content, because the body is a resource of known length.
+    // Images never change once added, so browsers may keep them for as long as they like. The only exception is the
+    // original sent in place of a thumbnail that is not generated yet, which has to be revalidated.
+    @GetMapping("/image/{imageID}")
+    @PreAuthorize("hasAnyRole('USER', 'OPERATOR')")
+    public ResponseEntity<Resource> getImage(@PathVariable("imageID") Long imageID,
+                                             @RequestParam(name = "size", required = false) Integer size,
+                                             Principal principal) {
+        ImageDownload image = imageService.getContent(imageID, size, principal);
+        MediaType contentType = toMediaType(image.contentType());
+        ContentDisposition.Builder disposition = INLINE_IMAGE_TYPES.contains(new MediaType(contentType.getType(), contentType.getSubtype()))
+                ? ContentDisposition.inline()
+                : ContentDisposition.attachment();
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition
+                        .filename(image.name(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .cacheControl(image.immutable()
+                        ? CacheControl.maxAge(IMAGE_MAX_AGE).cachePrivate().immutable()
+                        : CacheControl.noCache().cachePrivate())
+                .eTag(image.hash())
+                .body(image.content());
+    }
+
     @DeleteMapping("/image/{imageID}")
     @PreAuthorize("hasAnyRole('USER', 'OPERATOR')")
     public String deleteImage(@PathVariable(name = "imageID", required = false) Long imageID, Principal principal) {
@@ -95,6 +236,13 @@ public class TicketController {
         return "Ticket status changed";
     }
 
+    @PostMapping("/status/bulk")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public String changeTicketsStatus(@RequestBody @Valid UpdateTicketsStatusRequest request) {
+        int changed = ticketService.changeStatus(request.ticketIDs(), request.statusID());
+        return "Status changed for " + changed + " tickets";
+    }
+
     @Transactional
     @DeleteMapping("{ticketID}")
     @PreAuthorize("hasAnyRole('USER', 'OPERATOR')")
@@ -109,4 +257,46 @@ public class TicketController {
         ticketReplyService.deleteById(replyID);
         return "Ticket reply removed";
     }
+
+    private static boolean isSummaryView(String view) {
+        return VIEW_SUMMARY.equalsIgnoreCase(view);
+    }
+
+    // The page itself stays a plain JSON array; the cursor for the next page travels in a response header.
+    private static ResponseEntity<List<?>> toPageResponse(CursorPage<?> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+
+        return response.body(page.items());
+    }
+
+    // Content types stored before uploads were checked may not parse; they are sent as plain bytes.
+    private static MediaType toMediaType(String contentType) {
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException ignored) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private static String toETag(long revision) {
+        return "\"" + revision + "\"";
+    }
+
+    // A missing header or "*" updates unconditionally; anything that is not one of our strong ETags can never match.
+    private static Long toRevision(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+
+        String eTag = ifMatch.trim();
+        if (eTag.length() > 2 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+            try {
+                return Long.valueOf(eTag.substring(1, eTag.length() - 1));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        return -1L;
+    }
 }
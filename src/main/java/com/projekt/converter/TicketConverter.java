@@ -1,7 +1,12 @@
 package com.projekt.converter;
 
+import com.projekt.models.ArchivedImage;
+import com.projekt.models.ArchivedTicket;
+import com.projekt.models.ArchivedTicketReply;
+import com.projekt.models.Image;
 import com.projekt.models.Ticket;
 import com.projekt.models.TicketReply;
+import com.projekt.payload.response.ImageResponse;
 import com.projekt.payload.response.TicketReplyResponse;
 import com.projekt.payload.response.TicketResponse;
 import org.springframework.stereotype.Component;
@@ -10,6 +15,16 @@ import java.util.List;
 
 @Component
 public class TicketConverter {
+    private static final String IMAGE_URL = "/api/tickets/image/";
+
+    private static ImageResponse toImageResponse(Image image) {
+        return new ImageResponse(image.getId(), image.getName(), image.getSize(), IMAGE_URL + image.getId());
+    }
+
+    private static ImageResponse toImageResponse(ArchivedImage image) {
+        return new ImageResponse(image.getId(), image.getName(), image.getSize(), IMAGE_URL + image.getId());
+    }
+
     private static TicketReplyResponse toTicketReplyResponse(TicketReply reply) {
         return new TicketReplyResponse(
                 reply.getId(),
@@ -23,12 +38,48 @@ public class TicketConverter {
         List<TicketReplyResponse> replies = ticket.getReplies().stream()
                 .map(reply -> toTicketReplyResponse(reply))
                 .toList();
+        List<ImageResponse> images = ticket.getImages().stream()
+                .map(image -> toImageResponse(image))
+                .toList();
+
+        return new TicketResponse(
+                ticket.getId(),
+                ticket.getTitle(),
+                ticket.getDescription(),
+                images,
+                ticket.getCreatedDate(),
+                ticket.getCategory(),
+                ticket.getPriority(),
+                ticket.getStatus(),
+                ticket.getVersion(),
+                ticket.getSoftware(),
+                replies,
+                UserConverter.toUserDetailsResponse(ticket.getUser())
+        );
+    }
+
+    private static TicketReplyResponse toTicketReplyResponse(ArchivedTicketReply reply) {
+        return new TicketReplyResponse(
+                reply.getId(),
+                UserConverter.toUserDetailsResponse(reply.getUser()),
+                reply.getContent(),
+                reply.getCreatedDate()
+        );
+    }
+
+    public static TicketResponse toTicketResponse(ArchivedTicket ticket){
+        List<TicketReplyResponse> replies = ticket.getReplies().stream()
+                .map(reply -> toTicketReplyResponse(reply))
+                .toList();
+        List<ImageResponse> images = ticket.getImages().stream()
+                .map(image -> toImageResponse(image))
+                .toList();
 
         return new TicketResponse(
                 ticket.getId(),
                 ticket.getTitle(),
                 ticket.getDescription(),
-                ticket.getImages(),
+                images,
                 ticket.getCreatedDate(),
                 ticket.getCategory(),
                 ticket.getPriority(),
@@ -0,0 +1,7 @@
+package com.projekt.events;
+
+import java.util.List;
+
+public record ImagesStoredEvent(
+        List<String> hashes
+) { }
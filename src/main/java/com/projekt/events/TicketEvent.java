@@ -0,0 +1,18 @@
+package com.projekt.events;
+
+public record TicketEvent(
+        Long ticketID,
+        Types type
+) {
+    public enum Types {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        REPLY_ADDED,
+        REPLY_DELETED,
+        IMAGE_ADDED,
+        IMAGE_DELETED,
+        DELETED,
+        ARCHIVED
+    }
+}
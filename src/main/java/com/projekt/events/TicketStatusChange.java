@@ -0,0 +1,8 @@
+package com.projekt.events;
+
+public record TicketStatusChange(
+        Long ticketID,
+        String title,
+        Long userID,
+        Long previousStatusID
+) { }
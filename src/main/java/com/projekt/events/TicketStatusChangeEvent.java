@@ -0,0 +1,11 @@
+package com.projekt.events;
+
+import java.util.List;
+
+// Published once for a whole bulk status change, so the owners are notified in one batch and stream subscribers
+// get a single message after the commit.
+public record TicketStatusChangeEvent(
+        Long statusID,
+        String statusName,
+        List<TicketStatusChange> changes
+) { }
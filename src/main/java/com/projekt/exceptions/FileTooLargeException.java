@@ -0,0 +1,7 @@
+package com.projekt.exceptions;
+
+public class FileTooLargeException extends RuntimeException {
+  public FileTooLargeException(long maxSize) {
+    super("File exceeds the maximum size of " + maxSize + " bytes");
+  }
+}
@@ -0,0 +1,7 @@
+package com.projekt.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+  public InvalidCursorException(String cursor) {
+    super("Invalid page cursor: '" + cursor + "'");
+  }
+}
@@ -0,0 +1,9 @@
+package com.projekt.exceptions;
+
+import java.util.List;
+
+public class InvalidImageSizeException extends RuntimeException {
+  public InvalidImageSizeException(int size, List<Integer> supportedSizes) {
+    super("Invalid image size: " + size + ", supported sizes: " + supportedSizes);
+  }
+}
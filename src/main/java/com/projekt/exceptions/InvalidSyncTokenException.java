@@ -0,0 +1,7 @@
+package com.projekt.exceptions;
+
+public class InvalidSyncTokenException extends RuntimeException {
+  public InvalidSyncTokenException(String token) {
+    super("Invalid sync token: '" + token + "'");
+  }
+}
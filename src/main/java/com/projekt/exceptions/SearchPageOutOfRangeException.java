@@ -0,0 +1,7 @@
+package com.projekt.exceptions;
+
+public class SearchPageOutOfRangeException extends RuntimeException {
+  public SearchPageOutOfRangeException(int page, int maxResults) {
+    super("Search page " + page + " is out of range, only the first " + maxResults + " results can be paged through");
+  }
+}
@@ -0,0 +1,7 @@
+package com.projekt.exceptions;
+
+public class SyncTokenExpiredException extends RuntimeException {
+  public SyncTokenExpiredException() {
+    super("Sync token has expired, a full sync is required.");
+  }
+}
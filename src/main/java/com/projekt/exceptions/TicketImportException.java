@@ -0,0 +1,7 @@
+package com.projekt.exceptions;
+
+public class TicketImportException extends RuntimeException {
+  public TicketImportException(long ticketNumber, long imported, String reason) {
+    super("Import stopped at ticket " + ticketNumber + ": " + reason + ". " + imported + " tickets were imported.");
+  }
+}
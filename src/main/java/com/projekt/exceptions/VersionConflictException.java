@@ -0,0 +1,7 @@
+package com.projekt.exceptions;
+
+public class VersionConflictException extends RuntimeException {
+  public VersionConflictException(String resource, Long id) {
+    super(resource + " with ID " + id + " was modified by another request.");
+  }
+}
@@ -0,0 +1,31 @@
+package com.projekt.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.*;
+
+@Entity
+@Immutable
+@Table(name = "images_archive")
+@NoArgsConstructor
+@Getter
+@Setter
+public class ArchivedImage {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(columnDefinition = "CHAR(64)", nullable = false)
+    private String hash;
+}
@@ -0,0 +1,78 @@
+package com.projekt.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Closed ticket moved out of "tickets" by TicketArchiveService. It keeps its ID and columns, so the ticket
+// specifications and cursors apply to both tables; archived tickets are read-only.
+@Entity
+@Immutable
+@Table(name = "tickets_archive", indexes = {
+        @Index(name = "idx_tickets_archive_user_created_date", columnList = "user_id, created_date, id")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+public class ArchivedTicket {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String description;
+
+    @OneToMany(cascade = CascadeType.REMOVE)
+    @JoinColumn(name = "ticket_id")
+    @BatchSize(size = 100)
+    private List<ArchivedImage> images = new ArrayList<>();
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDate createdDate;
+
+    @Column(name = "last_modified", nullable = false)
+    private Instant lastModified;
+
+    @ManyToOne
+    @JoinColumn(nullable = false)
+    private Category category;
+
+    @ManyToOne
+    @JoinColumn(nullable = false)
+    private Priority priority;
+
+    @ManyToOne
+    @JoinColumn(nullable = false)
+    private Status status;
+
+    @Column(nullable = false)
+    private String version;
+
+    @ManyToOne
+    @JoinColumn(nullable = false)
+    private Software software;
+
+    @OneToMany(cascade = CascadeType.REMOVE)
+    @JoinColumn(name = "ticket_id")
+    private List<ArchivedTicketReply> replies = new ArrayList<>();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,30 @@
+package com.projekt.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Immutable
+@Table(name = "replies_archive")
+@NoArgsConstructor
+@Getter
+@Setter
+public class ArchivedTicketReply {
+    @Id
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDate createdDate;
+}
@@ -1,18 +1,18 @@
 package com.projekt.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "categories")
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class Category {
@@ -25,6 +25,16 @@ public class Category {
     @Column(nullable = false)
     private String name;
 
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "use_number", nullable = false, insertable = false, updatable = false)
+    private long useNumber;
+
+    public Category(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
     public Category(String name) {
         this.name = name;
     }
@@ -16,19 +16,29 @@ import jakarta.persistence.*;
 @Setter
 public class Image {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "image_ids")
+    @TableGenerator(name = "image_ids", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "images", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     @NotBlank
     private String name;
 
-    @Lob
-    @Column(columnDefinition="MEDIUMBLOB", nullable = false)
-    private byte[] content;
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
 
-    public Image(String name, byte[] content) {
+    @Column(nullable = false)
+    private long size;
+
+    // SHA-256 of the content, which is kept in the attachment storage under this hash.
+    @Column(columnDefinition = "CHAR(64)", nullable = false)
+    private String hash;
+
+    public Image(String name, String contentType, long size, String hash) {
         this.name = name;
-        this.content = content;
+        this.contentType = contentType;
+        this.size = size;
+        this.hash = hash;
     }
 }
@@ -0,0 +1,48 @@
+package com.projekt.models;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+
+// A thumbnail of stored content, scaled so its longer side is at most size pixels. When the original already fits
+// or cannot be decoded, the rendition points at the original itself and has no content type of its own.
+@Entity
+@Table(name = "image_renditions", indexes = {
+        @Index(name = "idx_image_renditions_rendition_hash", columnList = "rendition_hash")
+})
+@IdClass(ImageRendition.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ImageRendition {
+    @Id
+    @Column(columnDefinition = "CHAR(64)")
+    private String hash;
+
+    @Id
+    private int size;
+
+    @Column(name = "rendition_hash", columnDefinition = "CHAR(64)", nullable = false)
+    private String renditionHash;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    public boolean isOriginal() {
+        return hash.equals(renditionHash);
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String hash;
+        private int size;
+    }
+}
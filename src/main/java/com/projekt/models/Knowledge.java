@@ -42,6 +42,10 @@ public class Knowledge {
     @JoinColumn(nullable = false)
     private Software software;
 
+    @Version
+    @Column(nullable = false)
+    private long revision;
+
     public Knowledge(String title, String content, Software software) {
         this.title = title;
         this.content = content;
@@ -1,6 +1,6 @@
 package com.projekt.models;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -8,11 +8,11 @@ import lombok.Setter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "priorities")
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class Priority {
@@ -25,6 +25,16 @@ public class Priority {
     @Column(nullable = false)
     private String name;
 
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "use_number", nullable = false, insertable = false, updatable = false)
+    private long useNumber;
+
+    public Priority(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
     public Priority(String name) {
         this.name = name;
     }
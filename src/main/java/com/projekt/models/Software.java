@@ -1,6 +1,6 @@
 package com.projekt.models;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -8,10 +8,10 @@ import lombok.Setter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "software")
-@AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
@@ -30,6 +30,22 @@ public class Software {
     @Column(nullable = false)
     private String description;
 
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "use_number_ticket", nullable = false, insertable = false, updatable = false)
+    private long useNumberTicket;
+
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "use_number_knowledge", nullable = false, insertable = false, updatable = false)
+    private long useNumberKnowledge;
+
+    public Software(Long id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
     public Software(String name, String description){
         this.name = name;
         this.description = description;
@@ -1,6 +1,6 @@
 package com.projekt.models;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -8,11 +8,11 @@ import lombok.Setter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "statuses")
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class Status {
@@ -31,6 +31,18 @@ public class Status {
     @Column(name = "is_default", nullable = false)
     private boolean defaultStatus = false;
 
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "use_number", nullable = false, insertable = false, updatable = false)
+    private long useNumber;
+
+    public Status(Long id, String name, boolean closeTicket, boolean defaultStatus) {
+        this.id = id;
+        this.name = name;
+        this.closeTicket = closeTicket;
+        this.defaultStatus = defaultStatus;
+    }
+
     public Status(Long id, String name, boolean closeTicket) {
         this.id = id;
         this.name = name;
@@ -3,25 +3,60 @@ package com.projekt.models;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_created_date_id", columnList = "created_date, id"),
+        @Index(name = "idx_tickets_status_created_date", columnList = "status_id, created_date, id"),
+        @Index(name = "idx_tickets_priority_created_date", columnList = "priority_id, created_date, id"),
+        @Index(name = "idx_tickets_category_created_date", columnList = "category_id, created_date, id"),
+        @Index(name = "idx_tickets_software_created_date", columnList = "software_id, created_date, id"),
+        @Index(name = "idx_tickets_user_created_date", columnList = "user_id, created_date, id"),
+        @Index(name = "idx_tickets_last_modified", columnList = "last_modified"),
+        @Index(name = "idx_tickets_user_last_modified", columnList = "user_id, last_modified"),
+        @Index(name = "idx_tickets_status_last_modified", columnList = "status_id, last_modified")
+})
 @NoArgsConstructor
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
+@NamedEntityGraph(
+        name = Ticket.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode("priority"),
+                @NamedAttributeNode("status"),
+                @NamedAttributeNode("software"),
+                @NamedAttributeNode(value = "user", subgraph = "user"),
+                @NamedAttributeNode(value = "replies", subgraph = "reply")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role")),
+                @NamedSubgraph(name = "reply", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"))
+        }
+)
 public class Ticket {
+    // Images are left out on purpose: fetching a second bag in the same join would fail with MultipleBagFetchException,
+    // and loading them lazily for a single ticket costs exactly one more statement. Pages of tickets load them in batches.
+    public static final String DETAIL_GRAPH = "Ticket.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ticket_ids")
+    @TableGenerator(name = "ticket_ids", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "tickets", allocationSize = 50)
     private Long id;
 
     @Size(min = 5, max = 100)
@@ -36,12 +71,18 @@ public class Ticket {
 
     @OneToMany(orphanRemoval = true, cascade = CascadeType.ALL)
     @JoinColumn(name = "ticket_id")
+    @BatchSize(size = 100)
     private List<Image> images = new ArrayList<>();
 
     @CreatedDate
     @Column(name = "created_date", nullable = false, updatable = false)
     private LocalDate createdDate;
 
+    @LastModifiedDate
+    @ColumnDefault("CURRENT_TIMESTAMP(6)")
+    @Column(name = "last_modified", nullable = false)
+    private Instant lastModified;
+
     @ManyToOne
     @JoinColumn(nullable = false)
     private Category category;
@@ -70,4 +111,10 @@ public class Ticket {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
     private User user;
+
+    // Bumped by Hibernate on every ticket change, including added replies and images; removals of a reply or image
+    // go through TicketRepository.markModified because they do not touch the ticket row.
+    @Version
+    @Column(nullable = false)
+    private long revision;
 }
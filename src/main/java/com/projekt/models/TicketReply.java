@@ -21,7 +21,9 @@ import java.time.LocalDate;
 @EntityListeners(AuditingEntityListener.class)
 public class TicketReply {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reply_ids")
+    @TableGenerator(name = "reply_ids", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "replies", allocationSize = 50)
     private Long id;
 
     @ManyToOne
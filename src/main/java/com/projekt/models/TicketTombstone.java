@@ -0,0 +1,40 @@
+package com.projekt.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+// Remembers deleted tickets, so clients syncing with GET /api/tickets/changes can drop them from their local copy.
+@Entity
+@Table(name = "ticket_tombstones", indexes = {
+        @Index(name = "idx_ticket_tombstones_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_ticket_tombstones_user_deleted_at", columnList = "user_id, deleted_at")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+public class TicketTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ticket_tombstone_ids")
+    @TableGenerator(name = "ticket_tombstone_ids", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "ticket_tombstones", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "ticket_id", nullable = false)
+    private Long ticketID;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userID;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public TicketTombstone(Long ticketID, Long userID, Instant deletedAt) {
+        this.ticketID = ticketID;
+        this.userID = userID;
+        this.deletedAt = deletedAt;
+    }
+}
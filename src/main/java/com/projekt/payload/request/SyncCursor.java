@@ -0,0 +1,43 @@
+package com.projekt.payload.request;
+
+import com.projekt.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+// Position within a sync that spans several pages. The sync covers changes from "since" (null for a first sync) up to
+// "until", ordered by (lastModified, id); the last two fields identify the last ticket already sent.
+public record SyncCursor(
+        Instant since,
+        Instant until,
+        Instant lastModified,
+        Long id
+) {
+    private static final String SEPARATOR = ",";
+    private static final String NONE = "-";
+
+    public static SyncCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split(SEPARATOR);
+            if (parts.length != 4) throw new InvalidCursorException(cursor);
+
+            return new SyncCursor(
+                    parts[0].equals(NONE) ? null : Instant.parse(parts[0]),
+                    Instant.parse(parts[1]),
+                    Instant.parse(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String value = (since == null ? NONE : since.toString()) + SEPARATOR + until + SEPARATOR + lastModified + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
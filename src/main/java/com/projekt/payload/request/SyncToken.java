@@ -0,0 +1,27 @@
+package com.projekt.payload.request;
+
+import com.projekt.exceptions.InvalidSyncTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+// Moment up to which a client has seen ticket changes; handed out by GET /api/tickets/changes and sent back as "since".
+public record SyncToken(
+        Instant since
+) {
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new SyncToken(Instant.parse(value));
+        } catch (RuntimeException ex) {
+            throw new InvalidSyncTokenException(token);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(since.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package com.projekt.payload.request;
+
+import com.projekt.exceptions.InvalidCursorException;
+import com.projekt.models.Ticket;
+import com.projekt.payload.response.TicketResponse;
+import com.projekt.payload.response.TicketSummaryResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// Position of the last ticket on a page. Pages are ordered by (createdDate, id), so the pair identifies where the next page starts.
+public record TicketCursor(
+        LocalDate createdDate,
+        Long id
+) {
+    private static final String SEPARATOR = ":";
+
+    public static TicketCursor of(Ticket ticket) {
+        return new TicketCursor(ticket.getCreatedDate(), ticket.getId());
+    }
+
+    public static TicketCursor of(TicketResponse ticket) {
+        return new TicketCursor(ticket.createdDate(), ticket.id());
+    }
+
+    public static TicketCursor of(TicketSummaryResponse summary) {
+        return new TicketCursor(summary.createdDate(), summary.id());
+    }
+
+    public static TicketCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = value.split(SEPARATOR);
+            if (parts.length != 2) throw new InvalidCursorException(token);
+
+            return new TicketCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String value = createdDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
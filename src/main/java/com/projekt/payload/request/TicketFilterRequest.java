@@ -0,0 +1,33 @@
+package com.projekt.payload.request;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+public record TicketFilterRequest(
+        @Positive
+        Long statusID,
+
+        @Positive
+        Long priorityID,
+
+        @Positive
+        Long categoryID,
+
+        @Positive
+        Long softwareID,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate createdFrom,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate createdTo,
+
+        Sort.Direction direction
+) {
+    public Sort.Direction directionOrDefault() {
+        return direction == null ? Sort.Direction.DESC : direction;
+    }
+}
@@ -0,0 +1,17 @@
+package com.projekt.payload.request.add;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+public record ImportTicketReplyRequest(
+        @NotBlank
+        String username,
+
+        @Size(min = 5, max = 500)
+        @NotBlank
+        String content,
+
+        LocalDate createdDate
+) { }
@@ -0,0 +1,42 @@
+package com.projekt.payload.request.add;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// One ticket of an import file. Lookups and users are referenced by name, as IDs of the source system mean nothing here;
+// a missing status falls back to the default status and missing dates to the import day.
+public record ImportTicketRequest(
+        @Size(min = 5, max = 100)
+        @NotBlank
+        String title,
+
+        @Size(min = 5, max = 500)
+        @NotBlank
+        String description,
+
+        @NotBlank
+        String category,
+
+        @NotBlank
+        String priority,
+
+        String status,
+
+        @NotBlank
+        String software,
+
+        @Size(min = 1, max = 10)
+        @NotBlank
+        String version,
+
+        @NotBlank
+        String username,
+
+        LocalDate createdDate,
+
+        List<@Valid ImportTicketReplyRequest> replies
+) { }
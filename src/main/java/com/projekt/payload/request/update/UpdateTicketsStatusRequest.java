@@ -0,0 +1,18 @@
+package com.projekt.payload.request.update;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record UpdateTicketsStatusRequest(
+        @NotEmpty
+        @Size(max = 1000)
+        List<@NotNull @Positive Long> ticketIDs,
+
+        @NotNull
+        @Positive
+        Long statusID
+) { }
@@ -0,0 +1,11 @@
+package com.projekt.payload.response;
+
+import org.springframework.core.io.Resource;
+
+public record ImageDownload(
+        String name,
+        String contentType,
+        String hash,
+        Resource content,
+        boolean immutable
+) { }
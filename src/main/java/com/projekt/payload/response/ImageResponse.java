@@ -0,0 +1,8 @@
+package com.projekt.payload.response;
+
+public record ImageResponse(
+        Long id,
+        String name,
+        long size,
+        String url
+) { }
@@ -0,0 +1,8 @@
+package com.projekt.payload.response;
+
+import java.util.List;
+
+public record SearchPage<T>(
+        List<T> items,
+        long totalHits
+) { }
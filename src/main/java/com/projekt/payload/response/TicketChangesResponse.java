@@ -0,0 +1,11 @@
+package com.projekt.payload.response;
+
+import java.util.List;
+
+// While nextCursor is set, more changed tickets follow. Deleted IDs and the sync token come with the last page only.
+public record TicketChangesResponse(
+        List<TicketSummaryResponse> changed,
+        List<Long> deletedIDs,
+        String syncToken,
+        String nextCursor
+) { }
@@ -0,0 +1,6 @@
+package com.projekt.payload.response;
+
+public record TicketImportResponse(
+        long imported,
+        long durationMs
+) { }
@@ -9,7 +9,7 @@ public record TicketResponse(
         Long id,
         String title,
         String description,
-        List<Image> images,
+        List<ImageResponse> images,
         LocalDate createdDate,
         Category category,
         Priority priority,
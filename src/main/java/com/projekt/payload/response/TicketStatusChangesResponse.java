@@ -0,0 +1,8 @@
+package com.projekt.payload.response;
+
+import java.util.List;
+
+public record TicketStatusChangesResponse(
+        List<Long> ticketIDs,
+        Long statusID
+) { }
@@ -0,0 +1,15 @@
+package com.projekt.payload.response;
+
+import java.time.LocalDate;
+
+public record TicketSummaryResponse(
+        Long id,
+        String title,
+        String status,
+        String priority,
+        String category,
+        String software,
+        String owner,
+        LocalDate createdDate,
+        Integer replyCount
+) { }
@@ -0,0 +1,53 @@
+package com.projekt.repositories;
+
+import com.projekt.models.ArchivedImage;
+import com.projekt.models.ArchivedTicket;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public interface ArchivedTicketRepository extends JpaRepository<ArchivedTicket, Long>, ArchivedTicketRepositoryCustom {
+    boolean existsByCategoryId(Long categoryID);
+
+    boolean existsByPriorityId(Long priorityID);
+
+    boolean existsByStatusId(Long statusID);
+
+    boolean existsBySoftwareId(Long softwareID);
+
+    @Query("SELECT a.revision FROM ArchivedTicket a WHERE a.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    @Query("SELECT a.user.id FROM ArchivedTicket a WHERE a.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    @Query("SELECT a.id FROM ArchivedTicket a WHERE a.user.id = :userID")
+    List<Long> findIdsByUserId(@Param("userID") Long userID);
+
+    @Query("SELECT new com.projekt.repositories.TicketLookupCount(a.category.id, a.priority.id, a.status.id, a.software.id, COUNT(a)) " +
+            "FROM ArchivedTicket a WHERE a.user.id = :userID GROUP BY a.category.id, a.priority.id, a.status.id, a.software.id")
+    List<TicketLookupCount> countLookupsByUserId(@Param("userID") Long userID);
+
+    @Query("SELECT a.id FROM ArchivedTicket a JOIN a.images i WHERE i.id = :imageID")
+    Optional<Long> findIdByImageId(@Param("imageID") Long imageID);
+
+    @Query("SELECT i FROM ArchivedImage i WHERE i.id = :imageID")
+    Optional<ArchivedImage> findImageById(@Param("imageID") Long imageID);
+
+    @Query("SELECT i.hash FROM ArchivedImage i WHERE i.hash IN :hashes")
+    Set<String> findImageHashesIn(@Param("hashes") Collection<String> hashes);
+
+    @EntityGraph(attributePaths = {"category", "priority", "status", "software", "user", "user.role", "replies", "replies.user", "replies.user.role"})
+    Optional<ArchivedTicket> findDetailedById(Long id);
+
+    @EntityGraph(attributePaths = {"category", "priority", "status", "software", "user", "user.role", "replies", "replies.user", "replies.user.role"})
+    List<ArchivedTicket> findAllByIdInOrderByIdAsc(Collection<Long> ids);
+}
@@ -0,0 +1,10 @@
+package com.projekt.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ArchivedTicketRepositoryCustom {
+    List<Long> archiveClosedTickets(Instant closedBefore, int limit);
+
+    List<Long> findIdsAfter(Long afterID, int limit);
+}
@@ -0,0 +1,67 @@
+package com.projekt.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public class ArchivedTicketRepositoryCustomImpl implements ArchivedTicketRepositoryCustom {
+    private static final String SELECT_CLOSED_TICKETS =
+            "SELECT t.id FROM tickets t JOIN statuses s ON s.id = t.status_id " +
+            "WHERE s.close_ticket = TRUE AND t.last_modified < :closedBefore " +
+            "ORDER BY t.id LIMIT :limit FOR UPDATE OF t";
+    private static final String COPY_TICKETS =
+            "INSERT INTO tickets_archive (id, title, description, created_date, last_modified, category_id, priority_id, " +
+            "status_id, version, software_id, user_id, revision, archived_at) " +
+            "SELECT id, title, description, created_date, last_modified, category_id, priority_id, " +
+            "status_id, version, software_id, user_id, revision, :archivedAt FROM tickets WHERE id IN (:ticketIDs)";
+    private static final String COPY_REPLIES =
+            "INSERT INTO replies_archive (id, user_id, content, created_date, ticket_id) " +
+            "SELECT id, user_id, content, created_date, ticket_id FROM replies WHERE ticket_id IN (:ticketIDs)";
+    private static final String COPY_IMAGES =
+            "INSERT INTO images_archive (id, name, content_type, size, hash, ticket_id) " +
+            "SELECT id, name, content_type, size, hash, ticket_id FROM images WHERE ticket_id IN (:ticketIDs)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Moves one batch in one transaction. The selected tickets stay locked until the commit, so a ticket reopened
+    // at the same time is either archived before the change or not at all.
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<Long> archiveClosedTickets(Instant closedBefore, int limit) {
+        List<Long> ticketIDs = entityManager.createNativeQuery(SELECT_CLOSED_TICKETS, Long.class)
+                .setParameter("closedBefore", closedBefore)
+                .setParameter("limit", limit)
+                .getResultList();
+        if (ticketIDs.isEmpty()) return ticketIDs;
+
+        execute(COPY_TICKETS, ticketIDs, Instant.now());
+        execute(COPY_REPLIES, ticketIDs, null);
+        execute(COPY_IMAGES, ticketIDs, null);
+        execute("DELETE FROM replies WHERE ticket_id IN (:ticketIDs)", ticketIDs, null);
+        execute("DELETE FROM images WHERE ticket_id IN (:ticketIDs)", ticketIDs, null);
+        execute("DELETE FROM tickets WHERE id IN (:ticketIDs)", ticketIDs, null);
+
+        return ticketIDs;
+    }
+
+    private void execute(String sql, List<Long> ticketIDs, Instant archivedAt) {
+        Query query = entityManager.createNativeQuery(sql).setParameter("ticketIDs", ticketIDs);
+        if (archivedAt != null) query.setParameter("archivedAt", archivedAt);
+
+        query.executeUpdate();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long afterID, int limit) {
+        return entityManager.createQuery("SELECT a.id FROM ArchivedTicket a WHERE a.id > :afterID ORDER BY a.id", Long.class)
+                .setParameter("afterID", afterID)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.projekt.repositories;
+
+import com.projekt.models.ImageRendition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Set;
+
+@Repository
+public interface ImageRenditionRepository extends JpaRepository<ImageRendition, ImageRendition.Key> {
+    @Query("SELECT r.size FROM ImageRendition r WHERE r.hash = :hash")
+    Set<Integer> findSizesByHash(@Param("hash") String hash);
+
+    // Renditions that point at their original do not keep it referenced, the original is only kept by its images.
+    @Query("SELECT r.renditionHash FROM ImageRendition r WHERE r.renditionHash IN :hashes AND r.renditionHash <> r.hash")
+    Set<String> findRenditionHashesIn(@Param("hashes") Collection<String> hashes);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ImageRendition r WHERE r.hash IN :hashes")
+    void deleteByHashIn(@Param("hashes") Collection<String> hashes);
+}
@@ -2,9 +2,15 @@ package com.projekt.repositories;
 
 import com.projekt.models.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
-
+    @Query("SELECT i.hash FROM Image i WHERE i.hash IN :hashes")
+    Set<String> findHashesIn(@Param("hashes") Collection<String> hashes);
 }
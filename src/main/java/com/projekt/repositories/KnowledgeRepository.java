@@ -6,8 +6,6 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface KnowledgeRepository extends JpaRepository<Knowledge, Long> {
-    Long countBySoftwareId(Long id);
-
     Knowledge findByTitleIgnoreCase(String title);
 
     boolean existsBySoftwareId(Long softwareID);
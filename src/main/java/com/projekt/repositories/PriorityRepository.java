@@ -2,9 +2,24 @@ package com.projekt.repositories;
 
 import com.projekt.models.Priority;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface PriorityRepository extends JpaRepository<Priority, Long> {
     boolean existsByNameIgnoreCase(String name);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE priorities SET use_number = use_number + :delta WHERE id = :id", nativeQuery = true)
+    void adjustUseNumber(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE priorities p SET p.use_number = (SELECT COUNT(*) FROM tickets t WHERE t.priority_id = p.id) + " +
+            "(SELECT COUNT(*) FROM tickets_archive a WHERE a.priority_id = p.id)", nativeQuery = true)
+    void reconcileUseNumber();
 }
@@ -2,9 +2,34 @@ package com.projekt.repositories;
 
 import com.projekt.models.Software;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface SoftwareRepository extends JpaRepository<Software, Long> {
     boolean existsByNameIgnoreCase(String name);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE software SET use_number_ticket = use_number_ticket + :delta WHERE id = :id", nativeQuery = true)
+    void adjustUseNumberTicket(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE software s SET s.use_number_ticket = (SELECT COUNT(*) FROM tickets t WHERE t.software_id = s.id) + " +
+            "(SELECT COUNT(*) FROM tickets_archive a WHERE a.software_id = s.id)", nativeQuery = true)
+    void reconcileUseNumberTicket();
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE software SET use_number_knowledge = use_number_knowledge + :delta WHERE id = :id", nativeQuery = true)
+    void adjustUseNumberKnowledge(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE software s SET s.use_number_knowledge = (SELECT COUNT(*) FROM knowledgebases k WHERE k.software_id = s.id)", nativeQuery = true)
+    void reconcileUseNumberKnowledge();
 }
@@ -4,6 +4,7 @@ import com.projekt.models.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,4 +20,15 @@ public interface StatusRepository extends JpaRepository<Status, Long> {
     void clearDefaultStatus();
 
     Optional<Status> findByDefaultStatusTrue();
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE statuses SET use_number = use_number + :delta WHERE id = :id", nativeQuery = true)
+    void adjustUseNumber(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE statuses s SET s.use_number = (SELECT COUNT(*) FROM tickets t WHERE t.status_id = s.id) + " +
+            "(SELECT COUNT(*) FROM tickets_archive a WHERE a.status_id = s.id)", nativeQuery = true)
+    void reconcileUseNumber();
 }
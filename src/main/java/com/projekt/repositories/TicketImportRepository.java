@@ -0,0 +1,98 @@
+package com.projekt.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Writes imported tickets with plain JDBC batches. Going through the entities would let auditing overwrite the
+// original creation dates, and every row would pass through the persistence context for nothing.
+@Repository
+public class TicketImportRepository {
+    private static final String INSERT_TICKET =
+            "INSERT INTO tickets (id, title, description, created_date, last_modified, category_id, priority_id, " +
+            "status_id, version, software_id, user_id, revision) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_REPLY =
+            "INSERT INTO replies (id, user_id, content, created_date, ticket_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate reservationTransaction;
+
+    public record TicketRow(
+            String title,
+            String description,
+            LocalDate createdDate,
+            Long categoryID,
+            Long priorityID,
+            Long statusID,
+            String version,
+            Long softwareID,
+            Long userID,
+            List<ReplyRow> replies
+    ) { }
+
+    public record ReplyRow(
+            Long userID,
+            String content,
+            LocalDate createdDate
+    ) { }
+
+    public TicketImportRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reservationTransaction = new TransactionTemplate(transactionManager);
+        this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Runs in the caller's transaction, so a batch is written completely or not at all. Returns the new ticket IDs.
+    // The IDs are reserved beforehand in a transaction of their own, so a rolled back batch only leaves a gap.
+    public List<Long> insertAll(List<TicketRow> tickets, Instant lastModified) {
+        if (tickets.isEmpty()) return List.of();
+
+        int replyCount = tickets.stream().mapToInt(ticket -> ticket.replies().size()).sum();
+        long ticketID = reserveIds("tickets", tickets.size());
+        long replyID = replyCount == 0 ? 0 : reserveIds("replies", replyCount);
+
+        List<Object[]> ticketRows = new ArrayList<>(tickets.size());
+        List<Object[]> replyRows = new ArrayList<>(replyCount);
+        List<Long> ticketIDs = new ArrayList<>(tickets.size());
+
+        for (TicketRow ticket : tickets) {
+            ticketRows.add(new Object[]{
+                    ticketID, ticket.title(), ticket.description(), Date.valueOf(ticket.createdDate()), Timestamp.from(lastModified),
+                    ticket.categoryID(), ticket.priorityID(), ticket.statusID(), ticket.version(), ticket.softwareID(), ticket.userID()
+            });
+
+            for (ReplyRow reply : ticket.replies()) {
+                replyRows.add(new Object[]{replyID++, reply.userID(), reply.content(), Date.valueOf(reply.createdDate()), ticketID});
+            }
+
+            ticketIDs.add(ticketID++);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TICKET, ticketRows);
+        if (!replyRows.isEmpty()) jdbcTemplate.batchUpdate(INSERT_REPLY, replyRows);
+
+        return ticketIDs;
+    }
+
+    // Takes a block of IDs from the same generator rows the entities use, so imported and regular rows never collide.
+    // Like Hibernate, the row is treated as the last ID already handed out, so the block starts right after it.
+    // The row lock is released when this short transaction commits, not after the whole batch is inserted, so regular
+    // inserts needing a new block do not wait for the import.
+    private long reserveIds(String name, int count) {
+        return reservationTransaction.execute(status -> {
+            Long lastUsedID = jdbcTemplate.queryForObject("SELECT next_val FROM id_generators WHERE name = ? FOR UPDATE", Long.class, name);
+            jdbcTemplate.update("UPDATE id_generators SET next_val = next_val + ? WHERE name = ?", count, name);
+
+            return lastUsedID + 1;
+        });
+    }
+}
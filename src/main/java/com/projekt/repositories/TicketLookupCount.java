@@ -0,0 +1,9 @@
+package com.projekt.repositories;
+
+public record TicketLookupCount(
+        Long categoryID,
+        Long priorityID,
+        Long statusID,
+        Long softwareID,
+        Long count
+) { }
@@ -1,19 +1,25 @@
 package com.projekt.repositories;
 
+import com.projekt.events.TicketStatusChange;
+import com.projekt.models.Status;
 import com.projekt.models.Ticket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-@Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
-    Long countByCategoryId(Long categoryID);
-
-    Long countByPriorityId(Long priorityID);
-
-    Long countBySoftwareId(Long id);
-
-    Long countByStatusId(Long statusID);
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
+@Repository
+public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRepositoryCustom {
     boolean existsByCategoryId(Long categoryId);
 
     boolean existsByPriorityId(Long priorityId);
@@ -22,5 +28,42 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
     boolean existsBySoftwareId(Long softwareID);
 
-    Ticket findByImagesId(Long imageID);
+    @Query("SELECT t.id FROM Ticket t JOIN t.images i WHERE i.id = :imageID")
+    Optional<Long> findIdByImageId(@Param("imageID") Long imageID);
+
+    @Query("SELECT t.id FROM Ticket t JOIN t.replies r WHERE r.id = :replyID")
+    Optional<Long> findIdByReplyId(@Param("replyID") Long replyID);
+
+    @Query("SELECT t.revision FROM Ticket t WHERE t.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Ticket t SET t.revision = t.revision + 1, t.lastModified = :lastModified WHERE t.id = :id")
+    void markModified(@Param("id") Long id, @Param("lastModified") Instant lastModified);
+
+    // Locks the tickets that are about to change, so their previous statuses stay valid until the update commits.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.projekt.events.TicketStatusChange(t.id, t.title, t.user.id, t.status.id) FROM Ticket t " +
+            "WHERE t.id IN :ids AND t.status.id <> :statusID")
+    List<TicketStatusChange> findStatusChanges(@Param("ids") List<Long> ids, @Param("statusID") Long statusID);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Ticket t SET t.status = :status, t.revision = t.revision + 1, t.lastModified = :lastModified WHERE t.id IN :ids")
+    int updateStatus(@Param("ids") List<Long> ids, @Param("status") Status status, @Param("lastModified") Instant lastModified);
+
+    @Query("SELECT t.id FROM Ticket t WHERE t.user.id = :userID")
+    List<Long> findIdsByUserId(@Param("userID") Long userID);
+
+    @Query("SELECT new com.projekt.repositories.TicketLookupCount(t.category.id, t.priority.id, t.status.id, t.software.id, COUNT(t)) " +
+            "FROM Ticket t WHERE t.user.id = :userID GROUP BY t.category.id, t.priority.id, t.status.id, t.software.id")
+    List<TicketLookupCount> countLookupsByUserId(@Param("userID") Long userID);
+
+    @EntityGraph(Ticket.DETAIL_GRAPH)
+    Optional<Ticket> findDetailedById(Long id);
+
+    // Replies, their authors and the owner come with the tickets; the images of the page follow in one batch.
+    @EntityGraph(Ticket.DETAIL_GRAPH)
+    List<Ticket> findAllByIdInOrderByIdAsc(Collection<Long> ids);
 }
@@ -0,0 +1,29 @@
+package com.projekt.repositories;
+
+import com.projekt.models.ArchivedTicket;
+import com.projekt.models.Ticket;
+import com.projekt.payload.request.TicketCursor;
+import com.projekt.payload.response.TicketSummaryResponse;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TicketRepositoryCustom {
+    List<Ticket> findPage(Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit);
+
+    List<TicketSummaryResponse> findSummaryPage(Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit);
+
+    List<ArchivedTicket> findArchivedPage(Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit);
+
+    List<TicketSummaryResponse> findArchivedSummaryPage(Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit);
+
+    List<TicketSummaryResponse> findSummaries(Specification<Ticket> specification);
+
+    List<ChangedTicket> findChangedPage(Specification<Ticket> specification, int limit);
+
+    List<Long> findIdsAfter(Long afterID, int limit);
+
+    record ChangedTicket(Long id, Instant lastModified) { }
+}
@@ -0,0 +1,143 @@
+package com.projekt.repositories;
+
+import com.projekt.models.*;
+import com.projekt.payload.request.TicketCursor;
+import com.projekt.payload.response.TicketSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class TicketRepositoryCustomImpl implements TicketRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Ticket> findPage(Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit) {
+        return findEntityPage(Ticket.class, specification, cursor, direction, limit);
+    }
+
+    @Override
+    public List<TicketSummaryResponse> findSummaryPage(Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit) {
+        return findSummaryPage(Ticket.class, specification, cursor, direction, limit);
+    }
+
+    @Override
+    public List<ArchivedTicket> findArchivedPage(Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit) {
+        return findEntityPage(ArchivedTicket.class, specification, cursor, direction, limit);
+    }
+
+    @Override
+    public List<TicketSummaryResponse> findArchivedSummaryPage(Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit) {
+        return findSummaryPage(ArchivedTicket.class, specification, cursor, direction, limit);
+    }
+
+    @Override
+    public List<TicketSummaryResponse> findSummaries(Specification<Ticket> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketSummaryResponse> query = cb.createQuery(TicketSummaryResponse.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        selectSummary(query, root, cb);
+        Predicate predicate = Specification.where(specification).toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    // Only the keys are read here; the summaries of a page are loaded by ID afterwards. Both the (last_modified) and
+    // (user_id, last_modified) indexes end with the primary key, so the keyset order is served by an index range scan.
+    @Override
+    public List<ChangedTicket> findChangedPage(Specification<Ticket> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ChangedTicket> query = cb.createQuery(ChangedTicket.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        query.select(cb.construct(ChangedTicket.class, root.get("id"), root.get("lastModified")));
+        Predicate predicate = Specification.where(specification).toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.orderBy(cb.asc(root.get("lastModified")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Walks the whole table in primary key order without keeping a result set open between pages.
+    @Override
+    public List<Long> findIdsAfter(Long afterID, int limit) {
+        return entityManager.createQuery("SELECT t.id FROM Ticket t WHERE t.id > :afterID ORDER BY t.id", Long.class)
+                .setParameter("afterID", afterID)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <T> List<T> findEntityPage(Class<T> type, Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+
+        query.select(root);
+        applyPage(query, root, cb, specification, cursor, direction);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<TicketSummaryResponse> findSummaryPage(Class<?> type, Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketSummaryResponse> query = cb.createQuery(TicketSummaryResponse.class);
+        Root<?> root = query.from(type);
+
+        selectSummary(query, root, cb);
+        applyPage(query, root, cb, specification, cursor, direction);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private void selectSummary(CriteriaQuery<TicketSummaryResponse> query, Root<?> root, CriteriaBuilder cb) {
+        Join<?, Status> status = root.join("status");
+        Join<?, Priority> priority = root.join("priority");
+        Join<?, Category> category = root.join("category");
+        Join<?, Software> software = root.join("software");
+        Join<?, User> user = root.join("user");
+
+        // The summary is built straight from the columns, so no entity (and none of its lazy associations) is loaded.
+        query.select(cb.construct(
+                TicketSummaryResponse.class,
+                root.get("id"),
+                root.get("title"),
+                status.get("name"),
+                priority.get("name"),
+                category.get("name"),
+                software.get("name"),
+                user.get("username"),
+                root.get("createdDate"),
+                cb.size(root.<List<?>>get("replies"))
+        ));
+    }
+
+    // The archive mirrors the ticket columns, so ticket specifications are applied to its root as well.
+    @SuppressWarnings("unchecked")
+    private void applyPage(CriteriaQuery<?> query, Root<?> root, CriteriaBuilder cb,
+                           Specification<Ticket> specification, TicketCursor cursor, Sort.Direction direction) {
+        Predicate predicate = Specification.where(specification)
+                .and(TicketSpecifications.after(cursor, direction))
+                .toPredicate((Root<Ticket>) root, query, cb);
+        if (predicate != null) query.where(predicate);
+
+        // Keyset pagination: the sort must match the cursor columns so that every page is a single index range scan.
+        if (direction.isAscending()) {
+            query.orderBy(cb.asc(root.get("createdDate")), cb.asc(root.get("id")));
+        } else {
+            query.orderBy(cb.desc(root.get("createdDate")), cb.desc(root.get("id")));
+        }
+    }
+}
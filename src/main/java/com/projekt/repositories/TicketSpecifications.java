@@ -0,0 +1,105 @@
+package com.projekt.repositories;
+
+import com.projekt.models.Ticket;
+import com.projekt.payload.request.SyncCursor;
+import com.projekt.payload.request.TicketCursor;
+import com.projekt.payload.request.TicketFilterRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+
+public final class TicketSpecifications {
+    private TicketSpecifications() { }
+
+    public static Specification<Ticket> matches(TicketFilterRequest filter) {
+        if (filter == null) return null;
+
+        return Specification.where(hasStatus(filter.statusID()))
+                .and(hasPriority(filter.priorityID()))
+                .and(hasCategory(filter.categoryID()))
+                .and(hasSoftware(filter.softwareID()))
+                .and(createdFrom(filter.createdFrom()))
+                .and(createdTo(filter.createdTo()));
+    }
+
+    public static Specification<Ticket> hasIdIn(Collection<Long> ticketIDs) {
+        return (root, query, cb) -> root.get("id").in(ticketIDs);
+    }
+
+    public static Specification<Ticket> hasUser(Long userID) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userID);
+    }
+
+    public static Specification<Ticket> hasStatus(Long statusID) {
+        return (root, query, cb) -> statusID == null ? null : cb.equal(root.get("status").get("id"), statusID);
+    }
+
+    public static Specification<Ticket> hasPriority(Long priorityID) {
+        return (root, query, cb) -> priorityID == null ? null : cb.equal(root.get("priority").get("id"), priorityID);
+    }
+
+    public static Specification<Ticket> hasCategory(Long categoryID) {
+        return (root, query, cb) -> categoryID == null ? null : cb.equal(root.get("category").get("id"), categoryID);
+    }
+
+    public static Specification<Ticket> hasSoftware(Long softwareID) {
+        return (root, query, cb) -> softwareID == null ? null : cb.equal(root.get("software").get("id"), softwareID);
+    }
+
+    public static Specification<Ticket> createdFrom(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.greaterThanOrEqualTo(root.<LocalDate>get("createdDate"), date);
+    }
+
+    public static Specification<Ticket> createdTo(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.lessThanOrEqualTo(root.<LocalDate>get("createdDate"), date);
+    }
+
+    public static Specification<Ticket> modifiedSince(Instant since) {
+        return (root, query, cb) -> since == null ? null : cb.greaterThanOrEqualTo(root.<Instant>get("lastModified"), since);
+    }
+
+    public static Specification<Ticket> modifiedBefore(Instant until) {
+        return (root, query, cb) -> cb.lessThan(root.<Instant>get("lastModified"), until);
+    }
+
+    public static Specification<Ticket> modifiedAfter(SyncCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+
+            return cb.or(
+                    cb.greaterThan(root.<Instant>get("lastModified"), cursor.lastModified()),
+                    cb.and(
+                            cb.equal(root.get("lastModified"), cursor.lastModified()),
+                            cb.greaterThan(root.<Long>get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+
+    public static Specification<Ticket> after(TicketCursor cursor, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(root.<LocalDate>get("createdDate"), cursor.createdDate()),
+                        cb.and(
+                                cb.equal(root.get("createdDate"), cursor.createdDate()),
+                                cb.greaterThan(root.<Long>get("id"), cursor.id())
+                        )
+                );
+            }
+
+            return cb.or(
+                    cb.lessThan(root.<LocalDate>get("createdDate"), cursor.createdDate()),
+                    cb.and(
+                            cb.equal(root.get("createdDate"), cursor.createdDate()),
+                            cb.lessThan(root.<Long>get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.projekt.repositories;
+
+import com.projekt.models.TicketTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TicketTombstoneRepository extends JpaRepository<TicketTombstone, Long> {
+    @Query("SELECT tt.ticketID FROM TicketTombstone tt WHERE tt.deletedAt >= :since")
+    List<Long> findTicketIdsDeletedSince(@Param("since") Instant since);
+
+    @Query("SELECT tt.ticketID FROM TicketTombstone tt WHERE tt.userID = :userID AND tt.deletedAt >= :since")
+    List<Long> findTicketIdsDeletedSince(@Param("since") Instant since, @Param("userID") Long userID);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TicketTombstone tt WHERE tt.deletedAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
@@ -21,6 +21,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findUserByUsernameIgnoreCase(String username);
 
+    // The username column uses a case-insensitive collation, so a plain comparison ignores case and can use the
+    // unique index, which LOWER() would prevent.
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsernameIgnoreCase(@Param("username") String username);
+
     @Query("SELECT COUNT(u) = 1 FROM User u JOIN u.role r WHERE r.type = :type")
     boolean isExactlyOneUserWithRole(@Param("type") Role.Types type);
 }
@@ -1,12 +1,15 @@
 package com.projekt.security;
 
+import com.projekt.controllers.TicketController;
 import com.projekt.security.jwt.AuthEntryPointJWT;
 import com.projekt.security.jwt.AuthTokenFilter;
 import com.projekt.security.jwt.JWTUtils;
 import com.projekt.security.services.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -71,6 +74,8 @@ public class WebSecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth ->
                         auth
+                                // Async dispatches only continue streaming responses whose initial request was already authorized.
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 .requestMatchers("/api/auth/**", "/api/profiles/activate/**").permitAll()
 
                                 .requestMatchers(HttpMethod.GET, "/api/categories/**", "/api/priorities/**", "/api/statuses/**", "/api/software/**", "/api/knowledge-bases/**").permitAll()
@@ -99,6 +104,9 @@ public class WebSecurityConfig {
         configuration.addAllowedOrigin("*");
         configuration.addAllowedMethod("*");
         configuration.addAllowedHeader("*");
+        configuration.addExposedHeader(TicketController.NEXT_CURSOR_HEADER);
+        configuration.addExposedHeader(TicketController.TOTAL_COUNT_HEADER);
+        configuration.addExposedHeader(HttpHeaders.ETAG);
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -0,0 +1,40 @@
+package com.projekt.services;
+
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+@Service
+public interface AttachmentStorage {
+    String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    default StoredContent store(InputStream content) throws IOException {
+        return store(content, Long.MAX_VALUE);
+    }
+
+    // The content is streamed and counted as it is written, so a file over maxSize is rejected without ever being
+    // held in memory and nothing of it is kept.
+    StoredContent store(InputStream content, long maxSize) throws IOException;
+
+    // The resource is read on demand, so a download or a byte range request never loads the whole file into memory.
+    Resource load(String hash);
+
+    // The age is checked again right before the content is removed, because an upload of identical content may
+    // have refreshed it since it was listed. Returns whether the content was removed.
+    boolean deleteStoredBefore(String hash, Instant storedBefore) throws IOException;
+
+    // The stream walks the storage lazily and has to be closed by the caller.
+    Stream<String> findStoredBefore(Instant storedBefore) throws IOException;
+
+    record StoredContent(String hash, long size) { }
+
+    static String contentTypeOf(String fileName) {
+        String contentType = fileName == null ? null : URLConnection.guessContentTypeFromName(fileName);
+        return contentType != null ? contentType : DEFAULT_CONTENT_TYPE;
+    }
+}
@@ -6,6 +6,7 @@ import com.projekt.models.Category;
 import com.projekt.payload.request.add.AddCategoryRequest;
 import com.projekt.payload.request.update.UpdateCategoryRequest;
 import com.projekt.payload.response.CategoryResponse;
+import com.projekt.repositories.ArchivedTicketRepository;
 import com.projekt.repositories.CategoryRepository;
 import com.projekt.repositories.TicketRepository;
 import org.springframework.stereotype.Service;
@@ -17,11 +18,14 @@ import java.util.Objects;
 public class CategoryServiceImpl implements CategoryService{
     private final CategoryRepository categoryRepository;
     private final TicketRepository ticketRepository;
+    private final ArchivedTicketRepository archivedTicketRepository;
     private final CategoryConverter categoryConverter;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository, TicketRepository ticketRepository, CategoryConverter categoryConverter) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, TicketRepository ticketRepository,
+                               ArchivedTicketRepository archivedTicketRepository, CategoryConverter categoryConverter) {
         this.categoryRepository = categoryRepository;
         this.ticketRepository = ticketRepository;
+        this.archivedTicketRepository = archivedTicketRepository;
         this.categoryConverter = categoryConverter;
     }
 
@@ -50,7 +54,7 @@ public class CategoryServiceImpl implements CategoryService{
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Category", id));
 
-        if(ticketRepository.existsByCategoryId(category.getId())){
+        if(ticketRepository.existsByCategoryId(category.getId()) || archivedTicketRepository.existsByCategoryId(category.getId())){
             throw new ResourceHasAssignedItemsException("category", "ticket");
         }
 
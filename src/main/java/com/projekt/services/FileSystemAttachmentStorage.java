@@ -0,0 +1,95 @@
+package com.projekt.services;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Service("fileSystemAttachmentStorage")
+@ConditionalOnProperty(name = "sms.app.attachments.storage", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemAttachmentStorage implements AttachmentStorage {
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String TEMP_DIRECTORY = "tmp";
+
+    @Value("${sms.app.attachments.path}")
+    private String storagePath;
+
+    private Path root;
+    private Path tempDirectory;
+
+    @PostConstruct
+    public void createDirectories() throws IOException {
+        root = Path.of(storagePath).toAbsolutePath();
+        tempDirectory = Files.createDirectories(root.resolve(TEMP_DIRECTORY));
+    }
+
+    // The content is hashed while it is written to a temporary file and then moved to its final path, so a
+    // half-written file is never visible under a hash. Identical content is kept only once.
+    @Override
+    public StoredContent store(InputStream content, long maxSize) throws IOException {
+        try (SpooledContent spooled = SpooledContent.spool(content, tempDirectory, maxSize)) {
+            Path target = resolve(spooled.hash());
+
+            if (Files.exists(target)) {
+                // Refreshed so the cleanup job does not remove the content before the new image referencing it is saved.
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(spooled.file(), target, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            return new StoredContent(spooled.hash(), spooled.size());
+        }
+    }
+
+    @Override
+    public Resource load(String hash) {
+        return new FileSystemResource(resolve(hash));
+    }
+
+    @Override
+    public boolean deleteStoredBefore(String hash, Instant storedBefore) throws IOException {
+        Path path = resolve(hash);
+
+        try {
+            if (!Files.getLastModifiedTime(path).toInstant().isBefore(storedBefore)) return false;
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+
+        return Files.deleteIfExists(path);
+    }
+
+    @Override
+    public Stream<String> findStoredBefore(Instant storedBefore) throws IOException {
+        return Files.find(root, 3, (path, attributes) -> isStoredBefore(path, attributes, storedBefore))
+                .map(path -> path.getFileName().toString());
+    }
+
+    private boolean isStoredBefore(Path path, BasicFileAttributes attributes, Instant storedBefore) {
+        return attributes.isRegularFile()
+                && !path.startsWith(tempDirectory)
+                && HASH_PATTERN.matcher(path.getFileName().toString()).matches()
+                && attributes.lastModifiedTime().toInstant().isBefore(storedBefore);
+    }
+
+    // Two levels of two hex characters each keep every directory at no more than 256 entries.
+    private Path resolve(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid attachment hash: '" + hash + "'");
+        }
+
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+}
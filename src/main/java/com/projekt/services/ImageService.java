@@ -1,5 +1,6 @@
 package com.projekt.services;
 
+import com.projekt.payload.response.ImageDownload;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -12,5 +13,7 @@ public interface ImageService {
 
     boolean existsById(Long id);
 
+    ImageDownload getContent(Long id, Integer size, Principal principal);
+
     void add(Long ticketID, List<MultipartFile> files, Principal principal);
 }
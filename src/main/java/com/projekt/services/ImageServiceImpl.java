@@ -1,42 +1,93 @@
 package com.projekt.services;
 
+import com.projekt.events.ImagesStoredEvent;
+import com.projekt.events.TicketEvent;
 import com.projekt.exceptions.FileProcessingException;
+import com.projekt.exceptions.InvalidImageSizeException;
 import com.projekt.exceptions.NotFoundException;
 import com.projekt.exceptions.UnauthorizedActionException;
 import com.projekt.models.Image;
+import com.projekt.models.ImageRendition;
 import com.projekt.models.Ticket;
+import com.projekt.payload.response.ImageDownload;
+import com.projekt.repositories.ArchivedTicketRepository;
+import com.projekt.repositories.ImageRenditionRepository;
 import com.projekt.repositories.ImageRepository;
 import com.projekt.repositories.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service("imageService")
 public class ImageServiceImpl implements ImageService{
+    private static final Logger logger = LoggerFactory.getLogger(ImageServiceImpl.class);
+    private static final int CLEANUP_BATCH_SIZE = 500;
+
     private final ImageRepository imageRepository;
     private final TicketService ticketService;
     private final TicketRepository ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttachmentStorage attachmentStorage;
+    private final ArchivedTicketRepository archivedTicketRepository;
+    private final ThumbnailService thumbnailService;
+    private final ImageRenditionRepository imageRenditionRepository;
+
+    @Value("${sms.app.attachments.cleanupGraceHours}")
+    private long cleanupGraceHours;
+
+    @Value("${sms.app.attachments.maxFileSize}")
+    private DataSize maxFileSize;
 
-    public ImageServiceImpl(ImageRepository imageRepository, TicketService ticketService, TicketRepository ticketRepository) {
+    public ImageServiceImpl(ImageRepository imageRepository, TicketService ticketService, TicketRepository ticketRepository,
+                            ApplicationEventPublisher eventPublisher, AttachmentStorage attachmentStorage,
+                            ArchivedTicketRepository archivedTicketRepository, ThumbnailService thumbnailService,
+                            ImageRenditionRepository imageRenditionRepository) {
         this.imageRepository = imageRepository;
         this.ticketService = ticketService;
         this.ticketRepository = ticketRepository;
+        this.eventPublisher = eventPublisher;
+        this.attachmentStorage = attachmentStorage;
+        this.archivedTicketRepository = archivedTicketRepository;
+        this.thumbnailService = thumbnailService;
+        this.imageRenditionRepository = imageRenditionRepository;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id, Principal principal) {
-        Image image = imageRepository.findById(id)
+        // Only the ticket ID is needed for the permission check, so the ticket and its other images are never loaded.
+        Long ticketID = ticketRepository.findIdByImageId(id)
                 .orElseThrow(() -> new NotFoundException("Image", id));
 
-        if(!ticketService.isAuthorized(ticketRepository.findByImagesId(id).getId(), principal.getName())){
+        if(!ticketService.isAuthorized(ticketID, principal.getName())){
             throw UnauthorizedActionException.forActionOnResource("delete", "image");
         }
 
-        imageRepository.deleteById(image.getId());
+        imageRepository.deleteById(id);
+        ticketRepository.markModified(ticketID, Instant.now());
+        eventPublisher.publishEvent(new TicketEvent(ticketID, TicketEvent.Types.IMAGE_DELETED));
     }
 
     @Override
@@ -45,6 +96,48 @@ public class ImageServiceImpl implements ImageService{
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ImageDownload getContent(Long id, Integer size, Principal principal) {
+        if (size != null && !thumbnailService.getSizes().contains(size)) {
+            throw new InvalidImageSizeException(size, thumbnailService.getSizes());
+        }
+
+        Long ticketID = ticketRepository.findIdByImageId(id)
+                .or(() -> archivedTicketRepository.findIdByImageId(id))
+                .orElseThrow(() -> new NotFoundException("Image", id));
+
+        if(!ticketService.isAuthorized(ticketID, principal.getName())){
+            throw UnauthorizedActionException.forActionToResource("access", "image");
+        }
+
+        return imageRepository.findById(id)
+                .map(image -> toImageDownload(id, image.getName(), image.getContentType(), image.getHash(), size))
+                .or(() -> archivedTicketRepository.findImageById(id)
+                        .map(image -> toImageDownload(id, image.getName(), image.getContentType(), image.getHash(), size)))
+                .orElseThrow(() -> new NotFoundException("Image", id));
+    }
+
+    // A thumbnail that is not generated yet is requested and the original is sent in its place for now.
+    private ImageDownload toImageDownload(Long id, String name, String contentType, String hash, Integer size) {
+        Resource content = attachmentStorage.load(hash);
+        if (!content.exists()) throw new NotFoundException("Image content", id);
+        if (size == null) return new ImageDownload(name, contentType, hash, content, true);
+
+        Optional<ImageRendition> rendition = thumbnailService.findRendition(hash, size);
+        if (rendition.isEmpty()) {
+            thumbnailService.generateAsync(List.of(hash));
+            return new ImageDownload(name, contentType, hash, content, false);
+        }
+        if (rendition.get().isOriginal()) return new ImageDownload(name, contentType, hash, content, true);
+
+        Resource thumbnail = attachmentStorage.load(rendition.get().getRenditionHash());
+        if (!thumbnail.exists()) throw new NotFoundException("Image content", id);
+
+        return new ImageDownload(name, rendition.get().getContentType(), rendition.get().getRenditionHash(), thumbnail, true);
+    }
+
+    @Override
+    @Transactional
     public void add(Long ticketID, List<MultipartFile> files, Principal principal){
         Ticket ticket = ticketRepository.findById(ticketID)
                 .orElseThrow(() -> new NotFoundException("Ticket", ticketID));
@@ -57,19 +150,87 @@ public class ImageServiceImpl implements ImageService{
         ticket.getImages().addAll(images);
 
         ticketRepository.save(ticket);
+        eventPublisher.publishEvent(new TicketEvent(ticket.getId(), TicketEvent.Types.IMAGE_ADDED));
+        eventPublisher.publishEvent(new ImagesStoredEvent(images.stream().map(Image::getHash).distinct().toList()));
     }
 
+    // The multipart parser already writes each part to disk, its stream is copied to the storage in small chunks.
     private List<Image> processFiles(List<MultipartFile> files) {
         if (files == null || files.isEmpty()) return new ArrayList<>();
 
         return files.stream()
                 .map(file -> {
-                    try {
-                        return new Image(file.getOriginalFilename(), file.getBytes());
+                    try (InputStream content = file.getInputStream()) {
+                        AttachmentStorage.StoredContent stored = attachmentStorage.store(content, maxFileSize.toBytes());
+                        String contentType = toImageContentType(file.getContentType(), file.getOriginalFilename());
+
+                        return new Image(file.getOriginalFilename(), contentType, stored.size(), stored.hash());
                     } catch (IOException ex) {
-                        throw new FileProcessingException(file.getOriginalFilename(), ex.getCause());
+                        throw new FileProcessingException(file.getOriginalFilename(), ex);
                     }
                 })
                 .toList();
     }
+
+    // The declared type comes from the client, so only a well-formed image type is kept, without its parameters.
+    // Anything else is derived from the file name.
+    private static String toImageContentType(String declaredType, String fileName) {
+        if (declaredType != null) {
+            try {
+                MediaType mediaType = MediaType.parseMediaType(declaredType);
+                if (mediaType.getType().equals("image") && !mediaType.isWildcardSubtype()) {
+                    return mediaType.getType() + "/" + mediaType.getSubtype();
+                }
+            } catch (InvalidMediaTypeException ignored) {
+            }
+        }
+
+        return AttachmentStorage.contentTypeOf(fileName);
+    }
+
+    // Images are removed together with their ticket or user without touching the storage, and the same content can
+    // be shared by several images, so content is only removed once no image or archived image refers to it.
+    // Content stored within the grace period is skipped, as the image referencing it may not be saved yet.
+    // Thumbnails are kept while their original is, and are removed on the run after it.
+    @Scheduled(cron = "${sms.app.attachments.cleanupCron}")
+    public void purgeUnreferencedContent() {
+        Instant storedBefore = Instant.now().minus(Duration.ofHours(cleanupGraceHours));
+        int removed = 0;
+
+        try (Stream<String> hashes = attachmentStorage.findStoredBefore(storedBefore)) {
+            Iterator<String> iterator = hashes.iterator();
+            List<String> batch = new ArrayList<>(CLEANUP_BATCH_SIZE);
+
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+
+                if (batch.size() == CLEANUP_BATCH_SIZE || !iterator.hasNext()) {
+                    removed += deleteUnreferenced(batch, storedBefore);
+                    batch.clear();
+                }
+            }
+        } catch (IOException ex) {
+            logger.error("Failed to clean up attachment storage: {}", ex.getMessage());
+        }
+
+        logger.info("Removed {} unreferenced attachments", removed);
+    }
+
+    private int deleteUnreferenced(List<String> hashes, Instant storedBefore) throws IOException {
+        Set<String> referenced = new HashSet<>(imageRepository.findHashesIn(hashes));
+        referenced.addAll(archivedTicketRepository.findImageHashesIn(hashes));
+        referenced.addAll(imageRenditionRepository.findRenditionHashesIn(hashes));
+
+        List<String> unreferenced = hashes.stream().filter(hash -> !referenced.contains(hash)).toList();
+        if (unreferenced.isEmpty()) return 0;
+
+        // Content refreshed by an upload after the reference check is kept together with its renditions.
+        List<String> deleted = new ArrayList<>();
+        for (String hash : unreferenced) {
+            if (attachmentStorage.deleteStoredBefore(hash, storedBefore)) deleted.add(hash);
+        }
+
+        if (!deleted.isEmpty()) imageRenditionRepository.deleteByHashIn(deleted);
+        return deleted.size();
+    }
 }
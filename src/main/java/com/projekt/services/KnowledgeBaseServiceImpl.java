@@ -8,6 +8,7 @@ import com.projekt.payload.request.update.UpdateKnowledgeRequest;
 import com.projekt.repositories.KnowledgeRepository;
 import com.projekt.repositories.SoftwareRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -23,17 +24,20 @@ public class KnowledgeBaseServiceImpl implements KnowledgeBaseService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Knowledge> getAll() {
         return knowledgeRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Knowledge loadById(Long id) {
         return knowledgeRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Knowledge", id));
     }
 
     @Override
+    @Transactional
     public void add(AddKnowledgeRequest request) {
         if(findDuplicate(request.title(), request.softwareID())) {
             throw new KnowledgeConflictException(request.title(), request.softwareID());
@@ -47,14 +51,17 @@ public class KnowledgeBaseServiceImpl implements KnowledgeBaseService{
         );
 
         knowledgeRepository.save(knowledge);
+        softwareRepository.adjustUseNumberKnowledge(knowledge.getSoftware().getId(), 1);
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         Knowledge knowledge = knowledgeRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Knowledge", id));
 
         knowledgeRepository.deleteById(knowledge.getId());
+        softwareRepository.adjustUseNumberKnowledge(knowledge.getSoftware().getId(), -1);
     }
 
     @Override
@@ -82,6 +89,7 @@ public class KnowledgeBaseServiceImpl implements KnowledgeBaseService{
     }
 
     @Override
+    @Transactional
     public void update(UpdateKnowledgeRequest request) {
         Knowledge knowledge = knowledgeRepository.findById(request.knowledgeID())
                 .orElseThrow(() -> new NotFoundException("Knowledge", request.knowledgeID()));
@@ -90,10 +98,17 @@ public class KnowledgeBaseServiceImpl implements KnowledgeBaseService{
             throw new KnowledgeConflictException(request.title(), request.softwareID());
         }
 
+        Long previousSoftwareID = knowledge.getSoftware().getId();
+
         knowledge.setTitle(request.title());
         knowledge.setContent(request.content());
         knowledge.setSoftware(softwareRepository.findById(request.softwareID())
                 .orElseThrow(() -> new NotFoundException("Software", request.softwareID())));
         knowledgeRepository.save(knowledge);
+
+        if (!Objects.equals(previousSoftwareID, knowledge.getSoftware().getId())) {
+            softwareRepository.adjustUseNumberKnowledge(previousSoftwareID, -1);
+            softwareRepository.adjustUseNumberKnowledge(knowledge.getSoftware().getId(), 1);
+        }
     }
 }
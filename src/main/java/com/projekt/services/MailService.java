@@ -1,18 +1,30 @@
 package com.projekt.services;
 
+import com.projekt.events.TicketStatusChange;
+import com.projekt.events.TicketStatusChangeEvent;
 import com.projekt.exceptions.NotFoundException;
 import com.projekt.models.User;
 import com.projekt.repositories.UserRepository;
 import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 import jakarta.mail.MessagingException;
 
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 public class MailService {
+    private static final Logger logger = LoggerFactory.getLogger(MailService.class);
+
     private final JavaMailSender javaMailSender;
     private final TemplateEngine templateEngine;
     private final UserRepository userRepository;
@@ -57,13 +69,38 @@ public class MailService {
     }
 
     public void sendChangeStatusMessage(Long userID, String ticketTitle, String statusName) throws MessagingException {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
-
         User user = userRepository.findById(userID)
                 .orElseThrow(() -> new NotFoundException("User", userID));
 
-        helper.setTo(user.getEmail());
+        sendChangeStatusMessage(user.getEmail(), ticketTitle, statusName);
+    }
+
+    // Sent in the background after the bulk change commits; the owners are loaded with a single query.
+    @Async
+    @TransactionalEventListener
+    public void sendChangeStatusMessages(TicketStatusChangeEvent event) {
+        Map<Long, User> users = userRepository.findAllById(event.changes().stream().map(TicketStatusChange::userID).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        for (TicketStatusChange change : event.changes()) {
+            User user = users.get(change.userID());
+            if (user == null) continue;
+
+            try {
+                sendChangeStatusMessage(user.getEmail(), change.title(), event.statusName());
+            } catch (MessagingException | RuntimeException ex) {
+                // The status change is already committed, so a failed mail must not stop the remaining ones.
+                logger.error("Failed to send status notification for ticket {}: {}", change.ticketID(), ex.getMessage());
+            }
+        }
+    }
+
+    private void sendChangeStatusMessage(String userEmail, String ticketTitle, String statusName) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
+
+        helper.setTo(userEmail);
         helper.setSubject("Support System - Ticket status changed");
 
         Context context = new Context();
@@ -6,6 +6,7 @@ import com.projekt.models.Priority;
 import com.projekt.payload.request.add.AddPriorityRequest;
 import com.projekt.payload.request.update.UpdatePriorityRequest;
 import com.projekt.payload.response.PriorityResponse;
+import com.projekt.repositories.ArchivedTicketRepository;
 import com.projekt.repositories.PriorityRepository;
 import com.projekt.repositories.TicketRepository;
 import org.springframework.stereotype.Service;
@@ -17,11 +18,14 @@ import java.util.Objects;
 public class PriorityServiceImpl implements PriorityService{
     private final PriorityRepository priorityRepository;
     private final TicketRepository ticketRepository;
+    private final ArchivedTicketRepository archivedTicketRepository;
     private final PriorityConverter priorityConverter;
 
-    public PriorityServiceImpl(PriorityRepository priorityRepository, TicketRepository ticketRepository, PriorityConverter priorityConverter) {
+    public PriorityServiceImpl(PriorityRepository priorityRepository, TicketRepository ticketRepository,
+                               ArchivedTicketRepository archivedTicketRepository, PriorityConverter priorityConverter) {
         this.priorityRepository = priorityRepository;
         this.ticketRepository = ticketRepository;
+        this.archivedTicketRepository = archivedTicketRepository;
         this.priorityConverter = priorityConverter;
     }
 
@@ -63,7 +67,7 @@ public class PriorityServiceImpl implements PriorityService{
         Priority priority = priorityRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Priority", id));
 
-        if(ticketRepository.existsByPriorityId(priority.getId())){
+        if(ticketRepository.existsByPriorityId(priority.getId()) || archivedTicketRepository.existsByPriorityId(priority.getId())){
             throw new ResourceHasAssignedItemsException("priority", "ticket");
         }
 
@@ -6,6 +6,7 @@ import com.projekt.models.Software;
 import com.projekt.payload.request.add.AddSoftwareRequest;
 import com.projekt.payload.request.update.UpdateSoftwareRequest;
 import com.projekt.payload.response.SoftwareResponse;
+import com.projekt.repositories.ArchivedTicketRepository;
 import com.projekt.repositories.KnowledgeRepository;
 import com.projekt.repositories.SoftwareRepository;
 import com.projekt.repositories.TicketRepository;
@@ -19,12 +20,15 @@ public class SoftwareServiceImpl implements SoftwareService {
     private final SoftwareRepository softwareRepository;
     private final KnowledgeRepository knowledgeRepository;
     private final TicketRepository ticketRepository;
+    private final ArchivedTicketRepository archivedTicketRepository;
     private final SoftwareConverter softwareConverter;
 
-    public SoftwareServiceImpl(SoftwareRepository softwareRepository, KnowledgeRepository knowledgeRepository, TicketRepository ticketRepository, SoftwareConverter softwareConverter) {
+    public SoftwareServiceImpl(SoftwareRepository softwareRepository, KnowledgeRepository knowledgeRepository, TicketRepository ticketRepository,
+                               ArchivedTicketRepository archivedTicketRepository, SoftwareConverter softwareConverter) {
         this.softwareRepository = softwareRepository;
         this.knowledgeRepository = knowledgeRepository;
         this.ticketRepository = ticketRepository;
+        this.archivedTicketRepository = archivedTicketRepository;
         this.softwareConverter = softwareConverter;
     }
 
@@ -49,7 +53,8 @@ public class SoftwareServiceImpl implements SoftwareService {
         Software software = softwareRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Software", id));
 
-        if(ticketRepository.existsBySoftwareId(software.getId()) || knowledgeRepository.existsBySoftwareId(software.getId())) {
+        if(ticketRepository.existsBySoftwareId(software.getId()) || archivedTicketRepository.existsBySoftwareId(software.getId())
+                || knowledgeRepository.existsBySoftwareId(software.getId())) {
             throw new ResourceHasAssignedItemsException("software", "ticket or knowledge");
         }
 
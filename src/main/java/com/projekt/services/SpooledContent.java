@@ -0,0 +1,87 @@
+package com.projekt.services;
+
+import com.projekt.exceptions.FileTooLargeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// Copies content to a temporary file and hashes it on the way, so the storage knows the hash before it writes the
+// content to its final place, without holding it in memory. Closing deletes the file unless it was moved away.
+final class SpooledContent implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final String hash;
+    private final long size;
+
+    private SpooledContent(Path file, String hash, long size) {
+        this.file = file;
+        this.hash = hash;
+        this.size = size;
+    }
+
+    static SpooledContent spool(InputStream content, Path directory, long maxSize) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        Path file = Files.createTempFile(directory, "upload", ".tmp");
+        long size = 0;
+
+        try (ReadableByteChannel source = Channels.newChannel(content);
+             FileChannel target = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                size += buffer.remaining();
+
+                // Checked per chunk, so an oversized upload is stopped at the limit instead of being read to the end.
+                if (size > maxSize) throw new FileTooLargeException(maxSize);
+
+                digest.update(buffer);
+                buffer.rewind();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+
+        return new SpooledContent(file, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    String hash() {
+        return hash;
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.projekt.models.Status;
 import com.projekt.payload.request.add.AddStatusRequest;
 import com.projekt.payload.request.update.UpdateStatusRequest;
 import com.projekt.payload.response.StatusResponse;
+import com.projekt.repositories.ArchivedTicketRepository;
 import com.projekt.repositories.StatusRepository;
 import com.projekt.repositories.TicketRepository;
 import org.springframework.stereotype.Service;
@@ -17,11 +18,14 @@ import java.util.Objects;
 public class StatusServiceImpl implements StatusService{
     private final StatusRepository statusRepository;
     private final TicketRepository ticketRepository;
+    private final ArchivedTicketRepository archivedTicketRepository;
     private final StatusConverter statusConverter;
 
-    public StatusServiceImpl(StatusRepository statusRepository, TicketRepository ticketRepository, StatusConverter statusConverter) {
+    public StatusServiceImpl(StatusRepository statusRepository, TicketRepository ticketRepository,
+                             ArchivedTicketRepository archivedTicketRepository, StatusConverter statusConverter) {
         this.statusRepository = statusRepository;
         this.ticketRepository = ticketRepository;
+        this.archivedTicketRepository = archivedTicketRepository;
         this.statusConverter = statusConverter;
     }
 
@@ -87,7 +91,7 @@ public class StatusServiceImpl implements StatusService{
         Status status = statusRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Status", id));
 
-        if(ticketRepository.existsByStatusId(status.getId())) {
+        if(ticketRepository.existsByStatusId(status.getId()) || archivedTicketRepository.existsByStatusId(status.getId())) {
             throw new ResourceHasAssignedItemsException("status", "ticket");
         }
 
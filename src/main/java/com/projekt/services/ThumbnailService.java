@@ -0,0 +1,20 @@
+package com.projekt.services;
+
+import com.projekt.models.ImageRendition;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public interface ThumbnailService {
+    List<Integer> getSizes();
+
+    Optional<ImageRendition> findRendition(String hash, int size);
+
+    void generateAsync(Collection<String> hashes);
+
+    void generate(String hash) throws IOException;
+}
@@ -0,0 +1,190 @@
+package com.projekt.services;
+
+import com.projekt.events.ImagesStoredEvent;
+import com.projekt.models.ImageRendition;
+import com.projekt.repositories.ImageRenditionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service("thumbnailService")
+public class ThumbnailServiceImpl implements ThumbnailService {
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailServiceImpl.class);
+    private static final String THUMBNAIL_FORMAT = "png";
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/png";
+
+    private final AttachmentStorage attachmentStorage;
+    private final ImageRenditionRepository imageRenditionRepository;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    @Value("${sms.app.thumbnails.sizes}")
+    private List<Integer> sizes;
+
+    @Value("${sms.app.thumbnails.threads}")
+    private int threads;
+
+    @Value("${sms.app.thumbnails.queueSize}")
+    private int queueSize;
+
+    private ExecutorService workers;
+
+    public ThumbnailServiceImpl(AttachmentStorage attachmentStorage, ImageRenditionRepository imageRenditionRepository) {
+        this.attachmentStorage = attachmentStorage;
+        this.imageRenditionRepository = imageRenditionRepository;
+    }
+
+    // Decoding holds a whole image in memory, so only a few run at once and a burst of uploads waits in a bounded queue.
+    @PostConstruct
+    public void startWorkers() {
+        workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize));
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+        workers.shutdownNow();
+    }
+
+    @Override
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    @Override
+    public Optional<ImageRendition> findRendition(String hash, int size) {
+        return imageRenditionRepository.findById(new ImageRendition.Key(hash, size));
+    }
+
+    // Runs after the images are committed. Thumbnails skipped because the queue was full are generated on the first
+    // request that asks for them.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImagesStored(ImagesStoredEvent event) {
+        generateAsync(event.hashes());
+    }
+
+    @Override
+    public void generateAsync(Collection<String> hashes) {
+        for (String hash : hashes) {
+            // Content that is already queued is not queued again, e.g. when several requests ask for its thumbnail.
+            if (!pending.add(hash)) continue;
+
+            try {
+                workers.execute(() -> {
+                    try {
+                        generate(hash);
+                    } catch (IOException | RuntimeException ex) {
+                        logger.error("Failed to generate thumbnails for {}: {}", hash, ex.getMessage());
+                    } finally {
+                        pending.remove(hash);
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                pending.remove(hash);
+                logger.warn("Thumbnail queue is full, skipped {}", hash);
+            }
+        }
+    }
+
+    // Only sizes without a rendition are generated, so running it again for the same content does nothing. The
+    // thumbnails are content-addressed as well, so a rendition generated twice is still stored once.
+    @Override
+    public void generate(String hash) throws IOException {
+        Set<Integer> existing = imageRenditionRepository.findSizesByHash(hash);
+        List<Integer> missing = sizes.stream()
+                .filter(size -> !existing.contains(size))
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        if (missing.isEmpty()) return;
+
+        BufferedImage original = read(hash, missing.get(0));
+
+        for (int size : missing) {
+            save(original == null || Math.max(original.getWidth(), original.getHeight()) <= size
+                    ? new ImageRendition(hash, size, hash, null)
+                    : new ImageRendition(hash, size, storeThumbnail(original, size), THUMBNAIL_CONTENT_TYPE));
+        }
+    }
+
+    private void save(ImageRendition rendition) {
+        try {
+            imageRenditionRepository.save(rendition);
+        } catch (DataIntegrityViolationException ex) {
+            // Generated by another instance in the meantime.
+            logger.debug("Thumbnail {} of {} already exists", rendition.getSize(), rendition.getHash());
+        }
+    }
+
+    // Returns null for content ImageIO cannot decode, which is then served as it is. Large images are subsampled
+    // while they are decoded, so a photo is never held in memory at its full resolution.
+    private BufferedImage read(String hash, int maxSize) throws IOException {
+        try (InputStream content = attachmentStorage.load(hash).getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+
+                int longerSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longerSide / (maxSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private String storeThumbnail(BufferedImage original, int size) throws IOException {
+        double scale = (double) size / Math.max(original.getWidth(), original.getHeight());
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+
+        BufferedImage thumbnail = new BufferedImage(width, height,
+                original.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, THUMBNAIL_FORMAT, output);
+
+        return attachmentStorage.store(new ByteArrayInputStream(output.toByteArray())).hash();
+    }
+}
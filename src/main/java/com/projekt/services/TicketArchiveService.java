@@ -0,0 +1,10 @@
+package com.projekt.services;
+
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+@Service
+public interface TicketArchiveService {
+    int archiveClosedBefore(Instant closedBefore);
+}
@@ -0,0 +1,57 @@
+package com.projekt.services;
+
+import com.projekt.events.TicketEvent;
+import com.projekt.repositories.ArchivedTicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service("ticketArchiveService")
+public class TicketArchiveServiceImpl implements TicketArchiveService {
+    private static final Logger logger = LoggerFactory.getLogger(TicketArchiveServiceImpl.class);
+
+    private final ArchivedTicketRepository archivedTicketRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${sms.app.archive.closedForDays}")
+    private long closedForDays;
+
+    @Value("${sms.app.archive.batchSize}")
+    private int batchSize;
+
+    public TicketArchiveServiceImpl(ArchivedTicketRepository archivedTicketRepository, ApplicationEventPublisher eventPublisher) {
+        this.archivedTicketRepository = archivedTicketRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(cron = "${sms.app.archive.cron}")
+    public void archiveClosedTickets() {
+        int archived = archiveClosedBefore(Instant.now().minus(Duration.ofDays(closedForDays)));
+
+        if (archived > 0) {
+            logger.info("Archived {} closed tickets", archived);
+        }
+    }
+
+    // Each batch commits on its own, so the hot table is never locked for the whole run.
+    @Override
+    public int archiveClosedBefore(Instant closedBefore) {
+        int archived = 0;
+        List<Long> ticketIDs;
+
+        do {
+            ticketIDs = archivedTicketRepository.archiveClosedTickets(closedBefore, batchSize);
+            ticketIDs.forEach(ticketID -> eventPublisher.publishEvent(new TicketEvent(ticketID, TicketEvent.Types.ARCHIVED)));
+            archived += ticketIDs.size();
+        } while (ticketIDs.size() == batchSize);
+
+        return archived;
+    }
+}
@@ -0,0 +1,11 @@
+package com.projekt.services;
+
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+public interface TicketExportService {
+    void exportAll(OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,68 @@
+package com.projekt.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projekt.converter.TicketConverter;
+import com.projekt.payload.response.TicketResponse;
+import com.projekt.repositories.ArchivedTicketRepository;
+import com.projekt.repositories.TicketRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Service("ticketExportService")
+public class TicketExportServiceImpl implements TicketExportService {
+    private static final int PAGE_SIZE = 100;
+
+    private final TicketRepository ticketRepository;
+    private final ArchivedTicketRepository archivedTicketRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public TicketExportServiceImpl(TicketRepository ticketRepository, ArchivedTicketRepository archivedTicketRepository,
+                                   EntityManager entityManager, ObjectMapper objectMapper) {
+        this.ticketRepository = ticketRepository;
+        this.archivedTicketRepository = archivedTicketRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    // Tickets are read in pages by primary key, so neither a server-side cursor nor the whole result set is needed.
+    // Both tables are read in the same transaction, so a ticket archived during the export is written exactly once.
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream outputStream) throws IOException {
+        exportPages(outputStream, ticketRepository::findIdsAfter, ticketRepository::findAllByIdInOrderByIdAsc,
+                TicketConverter::toTicketResponse);
+        exportPages(outputStream, archivedTicketRepository::findIdsAfter, archivedTicketRepository::findAllByIdInOrderByIdAsc,
+                TicketConverter::toTicketResponse);
+
+        outputStream.flush();
+    }
+
+    private <T> void exportPages(OutputStream outputStream, BiFunction<Long, Integer, List<Long>> findIdsAfter,
+                                 Function<List<Long>, List<T>> findAllById, Function<T, TicketResponse> converter) throws IOException {
+        Long lastID = 0L;
+        List<Long> ticketIDs;
+
+        do {
+            ticketIDs = findIdsAfter.apply(lastID, PAGE_SIZE);
+            if (ticketIDs.isEmpty()) break;
+
+            for (T ticket : findAllById.apply(ticketIDs)) {
+                outputStream.write(objectMapper.writeValueAsBytes(converter.apply(ticket)));
+                outputStream.write('\n');
+            }
+
+            // Detach the exported tickets, otherwise the persistence context grows with the table.
+            entityManager.clear();
+            outputStream.flush();
+            lastID = ticketIDs.get(ticketIDs.size() - 1);
+        } while (ticketIDs.size() == PAGE_SIZE);
+    }
+}
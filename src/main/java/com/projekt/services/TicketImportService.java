@@ -0,0 +1,12 @@
+package com.projekt.services;
+
+import com.projekt.payload.response.TicketImportResponse;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Service
+public interface TicketImportService {
+    TicketImportResponse importTickets(InputStream inputStream) throws IOException;
+}
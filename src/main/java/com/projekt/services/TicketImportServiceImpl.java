@@ -0,0 +1,204 @@
+package com.projekt.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projekt.exceptions.NotFoundException;
+import com.projekt.exceptions.TicketImportException;
+import com.projekt.models.*;
+import com.projekt.payload.request.add.ImportTicketReplyRequest;
+import com.projekt.payload.request.add.ImportTicketRequest;
+import com.projekt.payload.response.TicketImportResponse;
+import com.projekt.repositories.*;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service("ticketImportService")
+public class TicketImportServiceImpl implements TicketImportService {
+    private static final Logger logger = LoggerFactory.getLogger(TicketImportServiceImpl.class);
+
+    private final TicketImportRepository ticketImportRepository;
+    private final CategoryRepository categoryRepository;
+    private final PriorityRepository priorityRepository;
+    private final StatusRepository statusRepository;
+    private final SoftwareRepository softwareRepository;
+    private final UserRepository userRepository;
+    private final UsageCounterService usageCounterService;
+    private final TicketSearchService ticketSearchService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${sms.app.import.batchSize}")
+    private int batchSize;
+
+    public TicketImportServiceImpl(TicketImportRepository ticketImportRepository, CategoryRepository categoryRepository,
+                                   PriorityRepository priorityRepository, StatusRepository statusRepository,
+                                   SoftwareRepository softwareRepository, UserRepository userRepository,
+                                   UsageCounterService usageCounterService, TicketSearchService ticketSearchService,
+                                   ObjectMapper objectMapper, Validator validator, TransactionTemplate transactionTemplate) {
+        this.ticketImportRepository = ticketImportRepository;
+        this.categoryRepository = categoryRepository;
+        this.priorityRepository = priorityRepository;
+        this.statusRepository = statusRepository;
+        this.softwareRepository = softwareRepository;
+        this.userRepository = userRepository;
+        this.usageCounterService = usageCounterService;
+        this.ticketSearchService = ticketSearchService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Reads the file one ticket at a time and commits every batchSize tickets, so neither the file nor the
+    // persistence context has to fit in memory. Batches committed before a failure are kept.
+    @Override
+    public TicketImportResponse importTickets(InputStream inputStream) throws IOException {
+        long start = System.nanoTime();
+        Lookups lookups = loadLookups();
+        List<TicketImportRepository.TicketRow> batch = new ArrayList<>(batchSize);
+        long ticketNumber = 0;
+        long imported = 0;
+
+        try (MappingIterator<ImportTicketRequest> requests = objectMapper.readerFor(ImportTicketRequest.class).readValues(inputStream)) {
+            while (requests.hasNextValue()) {
+                ticketNumber++;
+                batch.add(toTicketRow(requests.nextValue(), lookups));
+
+                if (batch.size() == batchSize) {
+                    imported += writeBatch(batch);
+                    logger.info("Imported {} tickets ({} per second)", imported, perSecond(imported, start));
+                }
+            }
+
+            imported += writeBatch(batch);
+        } catch (JsonProcessingException ex) {
+            throw new TicketImportException(ticketNumber + 1, imported, "Invalid JSON - " + ex.getOriginalMessage());
+        } catch (IllegalArgumentException ex) {
+            throw new TicketImportException(ticketNumber, imported, ex.getMessage());
+        } finally {
+            // Imported rows bypass the ticket service, so the counters are refreshed once at the end.
+            if (imported > 0) {
+                usageCounterService.reconcile();
+            }
+        }
+
+        logger.info("Import finished: {} tickets ({} per second)", imported, perSecond(imported, start));
+        return new TicketImportResponse(imported, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int writeBatch(List<TicketImportRepository.TicketRow> batch) {
+        int size = batch.size();
+        if (size == 0) return 0;
+
+        Instant lastModified = Instant.now();
+        List<Long> ticketIDs = transactionTemplate.execute(status -> ticketImportRepository.insertAll(batch, lastModified));
+        batch.clear();
+
+        // Only the committed batch is indexed, so the index never holds tickets that were rolled back.
+        ticketSearchService.indexTickets(ticketIDs);
+
+        return size;
+    }
+
+    private TicketImportRepository.TicketRow toTicketRow(ImportTicketRequest request, Lookups lookups) {
+        Set<ConstraintViolation<ImportTicketRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+
+        LocalDate createdDate = request.createdDate() != null ? request.createdDate() : LocalDate.now();
+        List<TicketImportRepository.ReplyRow> replies = request.replies() == null ? List.of() : request.replies().stream()
+                .map(reply -> toReplyRow(reply, createdDate, lookups))
+                .toList();
+
+        return new TicketImportRepository.TicketRow(
+                request.title(),
+                request.description(),
+                createdDate,
+                resolve(lookups.categories(), "Category", request.category()),
+                resolve(lookups.priorities(), "Priority", request.priority()),
+                request.status() != null ? resolve(lookups.statuses(), "Status", request.status()) : lookups.defaultStatusID(),
+                request.version(),
+                resolve(lookups.software(), "Software", request.software()),
+                resolveUser(lookups.users(), request.username()),
+                replies
+        );
+    }
+
+    private TicketImportRepository.ReplyRow toReplyRow(ImportTicketReplyRequest reply, LocalDate ticketCreatedDate, Lookups lookups) {
+        return new TicketImportRepository.ReplyRow(
+                resolveUser(lookups.users(), reply.username()),
+                reply.content(),
+                reply.createdDate() != null ? reply.createdDate() : ticketCreatedDate
+        );
+    }
+
+    private static Long resolve(Map<String, Long> ids, String resource, String name) {
+        Long id = ids.get(toKey(name));
+        if (id == null) throw new IllegalArgumentException(resource + " '" + name + "' not found");
+
+        return id;
+    }
+
+    // Users are looked up on first use only, as an import usually references a small part of a large user table.
+    private Long resolveUser(Map<String, Long> userIDs, String username) {
+        Long userID = userIDs.computeIfAbsent(toKey(username), key -> userRepository.findIdByUsernameIgnoreCase(username).orElse(null));
+        if (userID == null) throw new IllegalArgumentException("User '" + username + "' not found");
+
+        return userID;
+    }
+
+    private Lookups loadLookups() {
+        Long defaultStatusID = statusRepository.findByDefaultStatusTrue()
+                .map(Status::getId)
+                .orElseThrow(() -> new NotFoundException("default ticket status"));
+
+        return new Lookups(
+                toIdMap(categoryRepository.findAll(), Category::getName, Category::getId),
+                toIdMap(priorityRepository.findAll(), Priority::getName, Priority::getId),
+                toIdMap(statusRepository.findAll(), Status::getName, Status::getId),
+                toIdMap(softwareRepository.findAll(), Software::getName, Software::getId),
+                new HashMap<>(),
+                defaultStatusID
+        );
+    }
+
+    private static <T> Map<String, Long> toIdMap(List<T> items, Function<T, String> name, Function<T, Long> id) {
+        return items.stream().collect(Collectors.toMap(item -> toKey(name.apply(item)), id, (first, second) -> first));
+    }
+
+    private static String toKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long perSecond(long imported, long start) {
+        long elapsedMs = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        return imported * 1000 / elapsedMs;
+    }
+
+    private record Lookups(
+            Map<String, Long> categories,
+            Map<String, Long> priorities,
+            Map<String, Long> statuses,
+            Map<String, Long> software,
+            Map<String, Long> users,
+            Long defaultStatusID
+    ) { }
+}
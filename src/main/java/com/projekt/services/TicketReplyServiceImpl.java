@@ -1,5 +1,6 @@
 package com.projekt.services;
 
+import com.projekt.events.TicketEvent;
 import com.projekt.exceptions.*;
 import com.projekt.models.Ticket;
 import com.projekt.models.TicketReply;
@@ -9,9 +10,12 @@ import com.projekt.repositories.TicketReplyRepository;
 import com.projekt.repositories.TicketRepository;
 import com.projekt.repositories.UserRepository;
 import jakarta.mail.MessagingException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
+import java.time.Instant;
 import java.util.Objects;
 
 @Service("ticketReplyDetailsService")
@@ -21,21 +25,30 @@ public class TicketReplyServiceImpl implements TicketReplyService{
     private final TicketService ticketService;
     private final MailService mailService;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TicketReplyServiceImpl(TicketReplyRepository ticketReplyRepository, TicketRepository ticketRepository, TicketService ticketService, MailService mailService, UserRepository userRepository) {
+    public TicketReplyServiceImpl(TicketReplyRepository ticketReplyRepository, TicketRepository ticketRepository, TicketService ticketService, MailService mailService, UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.ticketReplyRepository = ticketReplyRepository;
         this.ticketRepository = ticketRepository;
         this.ticketService = ticketService;
         this.mailService = mailService;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         TicketReply ticketReply = ticketReplyRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Ticket reply", id));
 
+        Long ticketID = ticketRepository.findIdByReplyId(ticketReply.getId()).orElse(null);
         ticketReplyRepository.deleteById(ticketReply.getId());
+
+        if (ticketID != null) {
+            ticketRepository.markModified(ticketID, Instant.now());
+            eventPublisher.publishEvent(new TicketEvent(ticketID, TicketEvent.Types.REPLY_DELETED));
+        }
     }
 
     @Override
@@ -44,6 +57,7 @@ public class TicketReplyServiceImpl implements TicketReplyService{
     }
 
     @Override
+    @Transactional(noRollbackFor = NotificationFailedException.class)
     public void add(AddTicketReplyRequest request, Principal principal) {
         Ticket ticket = ticketRepository.findById(request.ticketID())
                 .orElseThrow(() -> new NotFoundException("Ticket", request.ticketID()));
@@ -65,6 +79,8 @@ public class TicketReplyServiceImpl implements TicketReplyService{
         ticketReplyRepository.save(ticketReply);
 
         ticket.getReplies().add(ticketReply);
+        ticketRepository.save(ticket);
+        eventPublisher.publishEvent(new TicketEvent(ticket.getId(), TicketEvent.Types.REPLY_ADDED));
 
         try {
             if(!Objects.equals(ticket.getUser().getId(), user.getId())){
@@ -73,7 +89,5 @@ public class TicketReplyServiceImpl implements TicketReplyService{
         } catch (MessagingException ex) {
             throw new NotificationFailedException("Error occurred while sending notification", ex);
         }
-
-        ticketRepository.save(ticket);
     }
 }
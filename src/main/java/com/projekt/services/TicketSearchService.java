@@ -0,0 +1,16 @@
+package com.projekt.services;
+
+import com.projekt.payload.response.SearchPage;
+import com.projekt.payload.response.TicketSummaryResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface TicketSearchService {
+    SearchPage<TicketSummaryResponse> search(String query, int page, int limit);
+
+    void rebuildIndex();
+
+    void indexTickets(List<Long> ticketIDs);
+}
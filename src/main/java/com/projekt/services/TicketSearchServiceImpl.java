@@ -0,0 +1,265 @@
+package com.projekt.services;
+
+import com.projekt.events.TicketEvent;
+import com.projekt.exceptions.SearchPageOutOfRangeException;
+import com.projekt.models.Ticket;
+import com.projekt.models.TicketReply;
+import com.projekt.payload.response.SearchPage;
+import com.projekt.payload.response.TicketSummaryResponse;
+import com.projekt.repositories.TicketRepository;
+import com.projekt.repositories.TicketSpecifications;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service("ticketSearchService")
+public class TicketSearchServiceImpl implements TicketSearchService {
+    private static final Logger logger = LoggerFactory.getLogger(TicketSearchServiceImpl.class);
+    private static final String ID_FIELD = "id";
+    private static final String TITLE_FIELD = "title";
+    private static final String DESCRIPTION_FIELD = "description";
+    private static final String REPLY_FIELD = "reply";
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(TITLE_FIELD, 3f, DESCRIPTION_FIELD, 1.5f, REPLY_FIELD, 1f);
+    private static final int MAX_PAGE_SIZE = 100;
+    // Lucene collects every hit up to the requested page, so deep pages are refused instead of ranking the whole index.
+    private static final int MAX_RESULT_WINDOW = 10000;
+    private static final int INDEX_BATCH_SIZE = 100;
+    // Status and image changes do not touch any indexed text.
+    private static final Set<TicketEvent.Types> IGNORED_EVENTS = EnumSet.of(
+            TicketEvent.Types.STATUS_CHANGED, TicketEvent.Types.IMAGE_ADDED, TicketEvent.Types.IMAGE_DELETED
+    );
+
+    private final TicketRepository ticketRepository;
+    private final EntityManager entityManager;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+
+    @Value("${sms.app.search.indexPath}")
+    private String indexPath;
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    public TicketSearchServiceImpl(TicketRepository ticketRepository, EntityManager entityManager) {
+        this.ticketRepository = ticketRepository;
+        this.entityManager = entityManager;
+    }
+
+    @PostConstruct
+    public void openIndex() throws IOException {
+        directory = FSDirectory.open(Path.of(indexPath));
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    @PreDestroy
+    public void closeIndex() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    // An empty index means a fresh deployment or a wiped disk, so it is filled from the database once on startup.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initializeIndex() {
+        if (indexWriter.getDocStats().numDocs == 0) {
+            rebuildIndex();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        try {
+            indexWriter.deleteAll();
+
+            Long lastID = 0L;
+            List<Long> ticketIDs;
+
+            do {
+                ticketIDs = ticketRepository.findIdsAfter(lastID, INDEX_BATCH_SIZE);
+                if (ticketIDs.isEmpty()) break;
+
+                indexPage(ticketIDs);
+                lastID = ticketIDs.get(ticketIDs.size() - 1);
+            } while (ticketIDs.size() == INDEX_BATCH_SIZE);
+
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to rebuild the ticket search index", ex);
+        }
+    }
+
+    // Used for tickets written outside the ticket service, e.g. by the import, after their transaction has committed.
+    @Override
+    @Transactional(readOnly = true)
+    public void indexTickets(List<Long> ticketIDs) {
+        try {
+            for (int from = 0; from < ticketIDs.size(); from += INDEX_BATCH_SIZE) {
+                indexPage(ticketIDs.subList(from, Math.min(from + INDEX_BATCH_SIZE, ticketIDs.size())));
+            }
+
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            // The tickets themselves are already saved, so a failed index update must not fail the request.
+            logger.error("Failed to update search index for {} tickets: {}", ticketIDs.size(), ex.getMessage());
+        }
+    }
+
+    private void indexPage(List<Long> ticketIDs) throws IOException {
+        for (Ticket ticket : ticketRepository.findAllByIdInOrderByIdAsc(ticketIDs)) {
+            indexWriter.updateDocument(new Term(ID_FIELD, ticket.getId().toString()), toDocument(ticket));
+        }
+
+        entityManager.clear();
+    }
+
+    // Runs after the ticket change is committed, so the index never contains text that was rolled back.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketEvent(TicketEvent event) {
+        if (IGNORED_EVENTS.contains(event.type())) return;
+
+        Term idTerm = new Term(ID_FIELD, event.ticketID().toString());
+
+        try {
+            Optional<Ticket> ticket = event.type() == TicketEvent.Types.DELETED
+                    ? Optional.empty()
+                    : ticketRepository.findDetailedById(event.ticketID());
+
+            if (ticket.isPresent()) {
+                indexWriter.updateDocument(idTerm, toDocument(ticket.get()));
+            } else {
+                indexWriter.deleteDocuments(idTerm);
+            }
+
+            // The searcher reads the writer's uncommitted changes, so the update is searchable without a commit.
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            // The ticket itself is already saved, so a failed index update must not fail the request.
+            logger.error("Failed to update search index for ticket {}: {}", event.ticketID(), ex.getMessage());
+        }
+    }
+
+    // Commits make the index durable; an update lost with an unclean shutdown is only missing until the ticket
+    // changes again or the index is rebuilt. The refresh also picks up changes a concurrent refresh skipped.
+    @Scheduled(fixedDelayString = "${sms.app.search.commitIntervalMs}")
+    public void commitIndex() {
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            logger.error("Failed to commit search index: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public SearchPage<TicketSummaryResponse> search(String query, int page, int limit) {
+        if (query == null || query.isBlank()) return new SearchPage<>(List.of(), 0);
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // Computed in long, as a large page number would overflow int.
+        long windowEnd = (Math.max(page, 0) + 1L) * pageSize;
+        if (windowEnd > MAX_RESULT_WINDOW) throw new SearchPageOutOfRangeException(page, MAX_RESULT_WINDOW);
+        int firstHit = (int) windowEnd - pageSize;
+
+        List<Long> ticketIDs = new ArrayList<>();
+        long totalHits;
+
+        try {
+            Query luceneQuery = parse(query);
+            IndexSearcher searcher = searcherManager.acquire();
+
+            try {
+                ScoreDoc[] hits = searcher.search(luceneQuery, (int) windowEnd).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+
+                for (int i = firstHit; i < hits.length; i++) {
+                    ticketIDs.add(Long.valueOf(storedFields.document(hits[i].doc).get(ID_FIELD)));
+                }
+                totalHits = searcher.count(luceneQuery);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to search tickets", ex);
+        }
+
+        return new SearchPage<>(loadSummaries(ticketIDs), totalHits);
+    }
+
+    private Query parse(String query) {
+        String[] fields = FIELD_BOOSTS.keySet().toArray(String[]::new);
+
+        try {
+            return new MultiFieldQueryParser(fields, analyzer, FIELD_BOOSTS).parse(MultiFieldQueryParser.escape(query));
+        } catch (ParseException ex) {
+            throw new IllegalArgumentException("Invalid search query: '" + query + "'", ex);
+        }
+    }
+
+    // Summaries come back in database order, so they are put back into the relevance order of the hits.
+    private List<TicketSummaryResponse> loadSummaries(List<Long> ticketIDs) {
+        if (ticketIDs.isEmpty()) return List.of();
+
+        Map<Long, TicketSummaryResponse> summaries = ticketRepository.findSummaryPage(
+                TicketSpecifications.hasIdIn(ticketIDs), null, Sort.Direction.DESC, ticketIDs.size()
+        ).stream().collect(Collectors.toMap(TicketSummaryResponse::id, Function.identity()));
+
+        return ticketIDs.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static Document toDocument(Ticket ticket) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, ticket.getId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE_FIELD, ticket.getTitle(), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION_FIELD, ticket.getDescription(), Field.Store.NO));
+
+        for (TicketReply reply : ticket.getReplies()) {
+            document.add(new TextField(REPLY_FIELD, reply.getContent(), Field.Store.NO));
+        }
+
+        return document;
+    }
+}
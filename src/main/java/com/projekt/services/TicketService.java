@@ -1,9 +1,12 @@
 package com.projekt.services;
 
+import com.projekt.payload.request.TicketFilterRequest;
 import com.projekt.payload.request.add.AddTicketRequest;
 import com.projekt.payload.request.update.UpdateTicketRequest;
 
+import com.projekt.payload.response.CursorPage;
 import com.projekt.payload.response.TicketResponse;
+import com.projekt.payload.response.TicketSummaryResponse;
 import org.springframework.stereotype.Service;
 
 import java.security.Principal;
@@ -11,7 +14,9 @@ import java.util.List;
 
 @Service
 public interface TicketService {
-    List<TicketResponse> getAll();
+    CursorPage<TicketResponse> getAll(TicketFilterRequest filter, String cursor, int limit);
+
+    CursorPage<TicketSummaryResponse> getAllSummaries(TicketFilterRequest filter, String cursor, int limit);
 
     boolean existsById(Long id);
 
@@ -19,15 +24,23 @@ public interface TicketService {
 
     TicketResponse getById(Long id, Principal principal);
 
+    long getRevision(Long id, Principal principal);
+
     void changeStatus(Long ticketID, Long statusID);
 
+    int changeStatus(List<Long> ticketIDs, Long statusID);
+
     void add(AddTicketRequest request, String username);
 
-    void update(UpdateTicketRequest request, Principal principal);
+    void update(UpdateTicketRequest request, Long expectedRevision, Principal principal);
 
     boolean isAuthorized(Long ticketID, String username);
 
-    List<TicketResponse> getUserTickets(Principal principal);
+    CursorPage<TicketResponse> getUserTickets(Principal principal, TicketFilterRequest filter, String cursor, int limit);
+
+    CursorPage<TicketResponse> getUserTickets(Long userID, TicketFilterRequest filter, String cursor, int limit);
+
+    CursorPage<TicketSummaryResponse> getUserTicketSummaries(Principal principal, TicketFilterRequest filter, String cursor, int limit);
 
-    List<TicketResponse> getUserTickets(Long userID);
+    CursorPage<TicketSummaryResponse> getUserTicketSummaries(Long userID, TicketFilterRequest filter, String cursor, int limit);
 }
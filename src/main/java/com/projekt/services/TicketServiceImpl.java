@@ -1,21 +1,39 @@
 package com.projekt.services;
 
 import com.projekt.converter.TicketConverter;
+import com.projekt.events.TicketEvent;
+import com.projekt.events.TicketStatusChange;
+import com.projekt.events.TicketStatusChangeEvent;
 import com.projekt.exceptions.*;
 import com.projekt.models.*;
 import com.projekt.payload.request.add.AddTicketRequest;
+import com.projekt.payload.request.TicketCursor;
+import com.projekt.payload.request.TicketFilterRequest;
 import com.projekt.payload.request.update.UpdateTicketRequest;
+import com.projekt.payload.response.CursorPage;
 import com.projekt.payload.response.TicketResponse;
+import com.projekt.payload.response.TicketSummaryResponse;
 import com.projekt.repositories.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.mail.MessagingException;
 import java.security.Principal;
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service("ticketDetailsService")
 public class TicketServiceImpl implements TicketService{
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TicketRepository ticketRepository;
     private final MailService mailService;
     private final UserRepository userRepository;
@@ -23,8 +41,11 @@ public class TicketServiceImpl implements TicketService{
     private final CategoryRepository categoryRepository;
     private final PriorityRepository priorityRepository;
     private final SoftwareRepository softwareRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketTombstoneRepository ticketTombstoneRepository;
+    private final ArchivedTicketRepository archivedTicketRepository;
 
-    public TicketServiceImpl(TicketRepository ticketRepository, MailService mailService, UserRepository userRepository, StatusRepository statusRepository, CategoryRepository categoryRepository, PriorityRepository priorityRepository, SoftwareRepository softwareRepository) {
+    public TicketServiceImpl(TicketRepository ticketRepository, MailService mailService, UserRepository userRepository, StatusRepository statusRepository, CategoryRepository categoryRepository, PriorityRepository priorityRepository, SoftwareRepository softwareRepository, ApplicationEventPublisher eventPublisher, TicketTombstoneRepository ticketTombstoneRepository, ArchivedTicketRepository archivedTicketRepository) {
         this.ticketRepository = ticketRepository;
         this.mailService = mailService;
         this.userRepository = userRepository;
@@ -32,13 +53,21 @@ public class TicketServiceImpl implements TicketService{
         this.categoryRepository = categoryRepository;
         this.priorityRepository = priorityRepository;
         this.softwareRepository = softwareRepository;
+        this.eventPublisher = eventPublisher;
+        this.ticketTombstoneRepository = ticketTombstoneRepository;
+        this.archivedTicketRepository = archivedTicketRepository;
     }
 
     @Override
-    public List<TicketResponse> getAll() {
-        return ticketRepository.findAll().stream()
-                .map(ticket -> TicketConverter.toTicketResponse(ticket))
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPage<TicketResponse> getAll(TicketFilterRequest filter, String cursor, int limit) {
+        return findPage(null, filter, cursor, limit, false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TicketSummaryResponse> getAllSummaries(TicketFilterRequest filter, String cursor, int limit) {
+        return findSummaryPage(null, filter, cursor, limit, false);
     }
 
     @Override
@@ -47,6 +76,7 @@ public class TicketServiceImpl implements TicketService{
     }
 
     @Override
+    @Transactional
     public void delete(Long id, Principal principal) {
         Ticket ticket = ticketRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Ticket", id));
@@ -56,6 +86,9 @@ public class TicketServiceImpl implements TicketService{
         }
 
         ticketRepository.deleteById(ticket.getId());
+        ticketTombstoneRepository.save(new TicketTombstone(ticket.getId(), ticket.getUser().getId(), Instant.now()));
+        adjustUseNumbers(ticket, -1);
+        eventPublisher.publishEvent(new TicketEvent(ticket.getId(), TicketEvent.Types.DELETED));
     }
 
     @Override
@@ -66,46 +99,164 @@ public class TicketServiceImpl implements TicketService{
         User user = userRepository.findByUsernameIgnoreCase(username)
                 .orElseThrow(() -> new NotFoundException("User", username));
 
-        Ticket ticket = ticketRepository.findById(ticketID)
+        Long ownerID = ticketRepository.findById(ticketID)
+                .map(ticket -> ticket.getUser().getId())
+                .or(() -> archivedTicketRepository.findUserIdById(ticketID))
                 .orElseThrow(() -> new NotFoundException("Ticket", ticketID));
 
-        return Objects.equals(user.getId(), ticket.getUser().getId());
+        return Objects.equals(user.getId(), ownerID);
     }
 
     @Override
-    public List<TicketResponse> getUserTickets(Principal principal) {
-        User user = userRepository.findByUsernameIgnoreCase(principal.getName())
-                .orElseThrow(() -> new NotFoundException("User", principal.getName()));
+    @Transactional(readOnly = true)
+    public CursorPage<TicketResponse> getUserTickets(Principal principal, TicketFilterRequest filter, String cursor, int limit) {
+        return findPage(TicketSpecifications.hasUser(findUserID(principal.getName())), filter, cursor, limit, true);
+    }
 
-        return user.getTickets().stream()
-                .map(ticket -> TicketConverter.toTicketResponse(ticket))
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TicketResponse> getUserTickets(Long userID, TicketFilterRequest filter, String cursor, int limit) {
+        return findPage(TicketSpecifications.hasUser(requireUser(userID)), filter, cursor, limit, true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TicketSummaryResponse> getUserTicketSummaries(Principal principal, TicketFilterRequest filter, String cursor, int limit) {
+        return findSummaryPage(TicketSpecifications.hasUser(findUserID(principal.getName())), filter, cursor, limit, true);
     }
 
     @Override
-    public List<TicketResponse> getUserTickets(Long userID) {
-        User user = userRepository.findById(userID)
-                .orElseThrow(() -> new NotFoundException("User", userID));
+    @Transactional(readOnly = true)
+    public CursorPage<TicketSummaryResponse> getUserTicketSummaries(Long userID, TicketFilterRequest filter, String cursor, int limit) {
+        return findSummaryPage(TicketSpecifications.hasUser(requireUser(userID)), filter, cursor, limit, true);
+    }
+
+    // Only the user's ID is needed to filter tickets, so the user entity is never loaded.
+    private Long findUserID(String username) {
+        return userRepository.findIdByUsernameIgnoreCase(username)
+                .orElseThrow(() -> new NotFoundException("User", username));
+    }
 
-        return user.getTickets().stream()
+    private Long requireUser(Long userID) {
+        if (!userRepository.existsById(userID)) {
+            throw new NotFoundException("User", userID);
+        }
+
+        return userID;
+    }
+
+    private CursorPage<TicketResponse> findPage(Specification<Ticket> specification, TicketFilterRequest filter, String cursor, int limit,
+                                                boolean includeArchive) {
+        int pageSize = toPageSize(limit);
+        Specification<Ticket> pageSpecification = Specification.where(specification).and(TicketSpecifications.matches(filter));
+        TicketCursor pageCursor = TicketCursor.decode(cursor);
+
+        // One extra row tells whether another page exists without running a separate count query.
+        List<Ticket> tickets = ticketRepository.findPage(pageSpecification, pageCursor, filter.directionOrDefault(), pageSize + 1);
+
+        if (!includeArchive) {
+            boolean hasNextPage = tickets.size() > pageSize;
+            if (hasNextPage) tickets = tickets.subList(0, pageSize);
+
+            List<TicketResponse> items = tickets.stream()
+                    .map(ticket -> TicketConverter.toTicketResponse(ticket))
+                    .toList();
+            String nextCursor = hasNextPage ? TicketCursor.of(tickets.get(tickets.size() - 1)).encode() : null;
+
+            return new CursorPage<>(items, nextCursor);
+        }
+
+        List<TicketResponse> archivedItems = ticketRepository.findArchivedPage(pageSpecification, pageCursor, filter.directionOrDefault(), pageSize + 1)
+                .stream()
                 .map(ticket -> TicketConverter.toTicketResponse(ticket))
                 .toList();
+        List<TicketResponse> items = mergePages(
+                tickets.stream().map(ticket -> TicketConverter.toTicketResponse(ticket)).toList(),
+                archivedItems,
+                Comparator.comparing(TicketResponse::createdDate).thenComparing(TicketResponse::id),
+                filter.directionOrDefault(),
+                pageSize + 1
+        );
+
+        return toCursorPage(items, pageSize, TicketCursor::of);
+    }
+
+    private CursorPage<TicketSummaryResponse> findSummaryPage(Specification<Ticket> specification, TicketFilterRequest filter, String cursor, int limit,
+                                                              boolean includeArchive) {
+        int pageSize = toPageSize(limit);
+        Specification<Ticket> pageSpecification = Specification.where(specification).and(TicketSpecifications.matches(filter));
+        TicketCursor pageCursor = TicketCursor.decode(cursor);
+
+        List<TicketSummaryResponse> items = ticketRepository.findSummaryPage(pageSpecification, pageCursor, filter.directionOrDefault(), pageSize + 1);
+
+        if (includeArchive) {
+            items = mergePages(
+                    items,
+                    ticketRepository.findArchivedSummaryPage(pageSpecification, pageCursor, filter.directionOrDefault(), pageSize + 1),
+                    Comparator.comparing(TicketSummaryResponse::createdDate).thenComparing(TicketSummaryResponse::id),
+                    filter.directionOrDefault(),
+                    pageSize + 1
+            );
+        }
+
+        return toCursorPage(items, pageSize, TicketCursor::of);
+    }
+
+    // Both tables are read with the same cursor and limit, so the first rows of their merge form the page.
+    private static <T> List<T> mergePages(List<T> tickets, List<T> archivedTickets, Comparator<T> order, Sort.Direction direction, int limit) {
+        Comparator<T> comparator = direction.isAscending() ? order : order.reversed();
+
+        return Stream.concat(tickets.stream(), archivedTickets.stream())
+                .sorted(comparator)
+                .limit(limit)
+                .toList();
     }
 
+    private static <T> CursorPage<T> toCursorPage(List<T> items, int pageSize, Function<T, TicketCursor> cursorOf) {
+        boolean hasNextPage = items.size() > pageSize;
+        if (hasNextPage) items = items.subList(0, pageSize);
+
+        String nextCursor = hasNextPage ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private static int toPageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
 
     @Override
+    @Transactional(readOnly = true)
     public TicketResponse getById(Long id, Principal principal) {
-        Ticket ticket = ticketRepository.findById(id)
+        // Closed tickets moved to the archive keep their IDs, so links to them stay valid.
+        TicketResponse ticket = ticketRepository.findDetailedById(id)
+                .map(hotTicket -> TicketConverter.toTicketResponse(hotTicket))
+                .or(() -> archivedTicketRepository.findDetailedById(id).map(archivedTicket -> TicketConverter.toTicketResponse(archivedTicket)))
                 .orElseThrow(() -> new NotFoundException("Ticket", id));
 
-        if(!isAuthorized(ticket.getId(), principal.getName())){
+        if(!isAuthorized(ticket.id(), principal.getName())){
+            throw UnauthorizedActionException.forActionToResource("access", "ticket");
+        }
+
+        return ticket;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getRevision(Long id, Principal principal) {
+        long revision = ticketRepository.findRevisionById(id)
+                .or(() -> archivedTicketRepository.findRevisionById(id))
+                .orElseThrow(() -> new NotFoundException("Ticket", id));
+
+        if(!isAuthorized(id, principal.getName())){
             throw UnauthorizedActionException.forActionToResource("access", "ticket");
         }
 
-        return TicketConverter.toTicketResponse(ticket);
+        return revision;
     }
 
     @Override
+    @Transactional(noRollbackFor = NotificationFailedException.class)
     public void changeStatus(Long ticketID, Long statusID) {
         Ticket ticket = ticketRepository.findById(ticketID)
                 .orElseThrow(() -> new NotFoundException("Ticket", ticketID));
@@ -116,8 +267,12 @@ public class TicketServiceImpl implements TicketService{
         // Skip updating the status and sending a notification if the new status is the same as the current one.
         if(ticket.getStatus().equals(status)) return;
 
+        statusRepository.adjustUseNumber(ticket.getStatus().getId(), -1);
+        statusRepository.adjustUseNumber(status.getId(), 1);
+
         ticket.setStatus(status);
         ticketRepository.save(ticket);
+        eventPublisher.publishEvent(new TicketEvent(ticket.getId(), TicketEvent.Types.STATUS_CHANGED));
 
         try {
             mailService.sendChangeStatusMessage(ticket.getUser().getId(), ticket.getTitle(), status.getName());
@@ -127,6 +282,29 @@ public class TicketServiceImpl implements TicketService{
     }
 
     @Override
+    @Transactional
+    public int changeStatus(List<Long> ticketIDs, Long statusID) {
+        Status status = statusRepository.findById(statusID)
+                .orElseThrow(() -> new NotFoundException("Status", statusID));
+
+        // Unknown tickets and tickets already in the requested status are skipped.
+        List<TicketStatusChange> changes = ticketRepository.findStatusChanges(ticketIDs.stream().distinct().toList(), statusID);
+        if (changes.isEmpty()) return 0;
+
+        ticketRepository.updateStatus(changes.stream().map(TicketStatusChange::ticketID).toList(), status, Instant.now());
+
+        changes.stream()
+                .collect(Collectors.groupingBy(TicketStatusChange::previousStatusID, Collectors.counting()))
+                .forEach((previousStatusID, count) -> statusRepository.adjustUseNumber(previousStatusID, -count));
+        statusRepository.adjustUseNumber(status.getId(), changes.size());
+
+        eventPublisher.publishEvent(new TicketStatusChangeEvent(status.getId(), status.getName(), changes));
+
+        return changes.size();
+    }
+
+    @Override
+    @Transactional
     public void add(AddTicketRequest request, String username) {
         Ticket ticket = new Ticket();
         ticket.setTitle(request.title());
@@ -151,10 +329,13 @@ public class TicketServiceImpl implements TicketService{
                 .orElseThrow(() -> new NotFoundException("User", username)));
 
         ticketRepository.save(ticket);
+        adjustUseNumbers(ticket, 1);
+        eventPublisher.publishEvent(new TicketEvent(ticket.getId(), TicketEvent.Types.CREATED));
     }
 
     @Override
-    public void update(UpdateTicketRequest request, Principal principal) {
+    @Transactional
+    public void update(UpdateTicketRequest request, Long expectedRevision, Principal principal) {
         Ticket ticket = ticketRepository.findById(request.ticketID())
                 .orElseThrow(() -> new NotFoundException("Ticket", request.ticketID()));
 
@@ -162,6 +343,14 @@ public class TicketServiceImpl implements TicketService{
             throw UnauthorizedActionException.forActionOnResource("update", "ticket");
         }
 
+        if(expectedRevision != null && expectedRevision != ticket.getRevision()){
+            throw new VersionConflictException("Ticket", ticket.getId());
+        }
+
+        Long previousCategoryID = ticket.getCategory().getId();
+        Long previousPriorityID = ticket.getPriority().getId();
+        Long previousSoftwareID = ticket.getSoftware().getId();
+
         ticket.setTitle(request.title());
         ticket.setDescription(request.description());
 
@@ -175,5 +364,27 @@ public class TicketServiceImpl implements TicketService{
         ticket.setVersion(request.version());
 
         ticketRepository.save(ticket);
+
+        if (!Objects.equals(previousCategoryID, ticket.getCategory().getId())) {
+            categoryRepository.adjustUseNumber(previousCategoryID, -1);
+            categoryRepository.adjustUseNumber(ticket.getCategory().getId(), 1);
+        }
+        if (!Objects.equals(previousPriorityID, ticket.getPriority().getId())) {
+            priorityRepository.adjustUseNumber(previousPriorityID, -1);
+            priorityRepository.adjustUseNumber(ticket.getPriority().getId(), 1);
+        }
+        if (!Objects.equals(previousSoftwareID, ticket.getSoftware().getId())) {
+            softwareRepository.adjustUseNumberTicket(previousSoftwareID, -1);
+            softwareRepository.adjustUseNumberTicket(ticket.getSoftware().getId(), 1);
+        }
+
+        eventPublisher.publishEvent(new TicketEvent(ticket.getId(), TicketEvent.Types.UPDATED));
+    }
+
+    private void adjustUseNumbers(Ticket ticket, long delta) {
+        categoryRepository.adjustUseNumber(ticket.getCategory().getId(), delta);
+        priorityRepository.adjustUseNumber(ticket.getPriority().getId(), delta);
+        statusRepository.adjustUseNumber(ticket.getStatus().getId(), delta);
+        softwareRepository.adjustUseNumberTicket(ticket.getSoftware().getId(), delta);
     }
 }
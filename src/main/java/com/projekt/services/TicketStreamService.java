@@ -0,0 +1,9 @@
+package com.projekt.services;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+public interface TicketStreamService {
+    SseEmitter subscribe();
+}
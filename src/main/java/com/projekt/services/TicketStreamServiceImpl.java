@@ -0,0 +1,139 @@
+package com.projekt.services;
+
+import com.projekt.events.TicketEvent;
+import com.projekt.events.TicketStatusChange;
+import com.projekt.events.TicketStatusChangeEvent;
+import com.projekt.payload.response.TicketStatusChangesResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service("ticketStreamService")
+public class TicketStreamServiceImpl implements TicketStreamService {
+    private static final long RECONNECT_DELAY_MS = 3000;
+    private static final String BULK_STATUS_CHANGED = "BULK_STATUS_CHANGED";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIDs = new AtomicLong();
+
+    @Value("${sms.app.ticketStream.timeoutMs}")
+    private long timeoutMs;
+
+    @Value("${sms.app.ticketStream.bufferSize}")
+    private int bufferSize;
+
+    @Value("${sms.app.ticketStream.senderThreads}")
+    private int senderThreads;
+
+    private ExecutorService sender;
+
+    // Each subscriber gets its own bounded queue, so one slow client can neither block the publishing request
+    // nor hold back the others.
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> queue,
+                              AtomicBoolean draining) { }
+
+    @PostConstruct
+    public void startSender() {
+        sender = Executors.newFixedThreadPool(senderThreads);
+    }
+
+    @PreDestroy
+    public void stopSender() {
+        subscribers.forEach(this::disconnect);
+        sender.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize), new AtomicBoolean());
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        enqueue(subscriber, () -> SseEmitter.event().reconnectTime(RECONNECT_DELAY_MS).comment("connected"));
+        return emitter;
+    }
+
+    // Runs after the ticket change is committed, so subscribers never see a change that was rolled back.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketEvent(TicketEvent event) {
+        broadcast(event.type().name(), event);
+    }
+
+    // A bulk change can cover more tickets than a subscriber's buffer holds, so it goes out as one message.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketStatusChangeEvent(TicketStatusChangeEvent event) {
+        broadcast(BULK_STATUS_CHANGED, new TicketStatusChangesResponse(
+                event.changes().stream().map(TicketStatusChange::ticketID).toList(), event.statusID()));
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away without closing the stream.
+    @Scheduled(fixedRateString = "${sms.app.ticketStream.heartbeatMs}")
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> enqueue(subscriber, () -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    private void broadcast(String name, Object data) {
+        String eventID = String.valueOf(eventIDs.incrementAndGet());
+
+        subscribers.forEach(subscriber -> enqueue(subscriber, () -> SseEmitter.event()
+                .id(eventID)
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON)));
+    }
+
+    private void enqueue(Subscriber subscriber, Supplier<SseEmitter.SseEventBuilder> message) {
+        // A full buffer means the client stopped reading; it is dropped and refetches the tickets after reconnecting.
+        if (!subscriber.queue().offer(message)) {
+            disconnect(subscriber);
+            return;
+        }
+
+        if (subscriber.draining().compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Supplier<SseEmitter.SseEventBuilder> message;
+            while ((message = subscriber.queue().poll()) != null) {
+                subscriber.emitter().send(message.get());
+            }
+        } catch (IOException | IllegalStateException ex) {
+            disconnect(subscriber);
+        } finally {
+            subscriber.draining().set(false);
+        }
+
+        // A message offered between the last poll and clearing the flag would otherwise wait for the next event.
+        if (!subscriber.queue().isEmpty() && subscriber.draining().compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.queue().clear();
+        subscriber.emitter().complete();
+    }
+}
@@ -0,0 +1,11 @@
+package com.projekt.services;
+
+import com.projekt.payload.response.TicketChangesResponse;
+import org.springframework.stereotype.Service;
+
+import java.security.Principal;
+
+@Service
+public interface TicketSyncService {
+    TicketChangesResponse getChanges(String syncToken, String cursor, int limit, Principal principal);
+}
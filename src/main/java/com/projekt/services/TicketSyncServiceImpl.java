@@ -0,0 +1,113 @@
+package com.projekt.services;
+
+import com.projekt.exceptions.NotFoundException;
+import com.projekt.exceptions.SyncTokenExpiredException;
+import com.projekt.models.Role;
+import com.projekt.models.Ticket;
+import com.projekt.payload.request.SyncCursor;
+import com.projekt.payload.request.SyncToken;
+import com.projekt.payload.response.TicketChangesResponse;
+import com.projekt.payload.response.TicketSummaryResponse;
+import com.projekt.repositories.TicketRepository;
+import com.projekt.repositories.TicketRepositoryCustom;
+import com.projekt.repositories.TicketSpecifications;
+import com.projekt.repositories.TicketTombstoneRepository;
+import com.projekt.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service("ticketSyncService")
+public class TicketSyncServiceImpl implements TicketSyncService {
+    // Changes committed by a slower transaction can carry a timestamp just before the previous sync token, and
+    // application nodes do not share a clock, so every sync re-reads this window. Clients apply changes idempotently.
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final TicketRepository ticketRepository;
+    private final TicketTombstoneRepository ticketTombstoneRepository;
+    private final UserRepository userRepository;
+
+    @Value("${sms.app.sync.tombstoneRetentionDays}")
+    private long tombstoneRetentionDays;
+
+    public TicketSyncServiceImpl(TicketRepository ticketRepository, TicketTombstoneRepository ticketTombstoneRepository,
+                                 UserRepository userRepository) {
+        this.ticketRepository = ticketRepository;
+        this.ticketTombstoneRepository = ticketTombstoneRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TicketChangesResponse getChanges(String syncToken, String cursor, int limit, Principal principal) {
+        Instant now = Instant.now();
+        SyncCursor syncCursor = SyncCursor.decode(cursor);
+        Instant since = syncCursor != null ? syncCursor.since() : sinceOf(SyncToken.decode(syncToken));
+
+        // Tombstones older than the retention period are gone, so a client that old cannot learn about its deletions.
+        if (since != null && since.isBefore(now.minus(tombstoneRetention()))) {
+            throw new SyncTokenExpiredException();
+        }
+
+        Long userID = userRepository.existsByUsernameIgnoreCaseAndRoleType(principal.getName(), Role.Types.ROLE_OPERATOR)
+                ? null
+                : userRepository.findIdByUsernameIgnoreCase(principal.getName())
+                        .orElseThrow(() -> new NotFoundException("User", principal.getName()));
+        Instant from = since == null ? null : since.minus(SYNC_OVERLAP);
+        // Every page of one sync reads up to the same moment. Tickets changed while the pages are fetched are
+        // picked up by the next sync, which starts from that moment.
+        Instant until = syncCursor != null ? syncCursor.until() : now;
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        Specification<Ticket> specification = Specification.where(userID == null ? null : TicketSpecifications.hasUser(userID))
+                .and(TicketSpecifications.modifiedSince(from))
+                .and(TicketSpecifications.modifiedBefore(until))
+                .and(TicketSpecifications.modifiedAfter(syncCursor));
+        List<TicketRepositoryCustom.ChangedTicket> page = ticketRepository.findChangedPage(specification, pageSize + 1);
+        boolean hasMore = page.size() > pageSize;
+        if (hasMore) page = page.subList(0, pageSize);
+
+        List<TicketSummaryResponse> changed = page.isEmpty()
+                ? List.of()
+                : ticketRepository.findSummaries(TicketSpecifications.hasIdIn(page.stream().map(TicketRepositoryCustom.ChangedTicket::id).toList()));
+
+        if (hasMore) {
+            TicketRepositoryCustom.ChangedTicket last = page.get(page.size() - 1);
+            return new TicketChangesResponse(changed, List.of(), null,
+                    new SyncCursor(since, until, last.lastModified(), last.id()).encode());
+        }
+
+        // Without a token the client has no local copy yet, so there is nothing to delete from it.
+        List<Long> deletedIDs;
+        if (from == null) {
+            deletedIDs = List.of();
+        } else if (userID == null) {
+            deletedIDs = ticketTombstoneRepository.findTicketIdsDeletedSince(from);
+        } else {
+            deletedIDs = ticketTombstoneRepository.findTicketIdsDeletedSince(from, userID);
+        }
+
+        return new TicketChangesResponse(changed, deletedIDs, new SyncToken(until).encode(), null);
+    }
+
+    private static Instant sinceOf(SyncToken token) {
+        return token == null ? null : token.since();
+    }
+
+    @Scheduled(cron = "${sms.app.sync.tombstonePurgeCron}")
+    public void purgeTombstones() {
+        ticketTombstoneRepository.deleteOlderThan(Instant.now().minus(tombstoneRetention()));
+    }
+
+    private Duration tombstoneRetention() {
+        return Duration.ofDays(tombstoneRetentionDays);
+    }
+}
@@ -0,0 +1,13 @@
+package com.projekt.services;
+
+import com.projekt.repositories.TicketLookupCount;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface UsageCounterService {
+    void reconcile();
+
+    void releaseTickets(List<TicketLookupCount> lookupCounts);
+}
@@ -0,0 +1,60 @@
+package com.projekt.services;
+
+import com.projekt.repositories.CategoryRepository;
+import com.projekt.repositories.PriorityRepository;
+import com.projekt.repositories.SoftwareRepository;
+import com.projekt.repositories.StatusRepository;
+import com.projekt.repositories.TicketLookupCount;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service("usageCounterService")
+public class UsageCounterServiceImpl implements UsageCounterService {
+    private final CategoryRepository categoryRepository;
+    private final PriorityRepository priorityRepository;
+    private final StatusRepository statusRepository;
+    private final SoftwareRepository softwareRepository;
+
+    public UsageCounterServiceImpl(CategoryRepository categoryRepository, PriorityRepository priorityRepository,
+                                   StatusRepository statusRepository, SoftwareRepository softwareRepository) {
+        this.categoryRepository = categoryRepository;
+        this.priorityRepository = priorityRepository;
+        this.statusRepository = statusRepository;
+        this.softwareRepository = softwareRepository;
+    }
+
+    // The counters are filled by the migration that added them and kept up to date by the ticket and knowledge
+    // services; this recount only repairs drift, e.g. after rows were changed outside the application. It updates
+    // every lookup row, so it runs on a schedule and not on every startup.
+    @Override
+    @Transactional
+    @Scheduled(cron = "${sms.app.usageCounters.reconcileCron}")
+    public void reconcile() {
+        categoryRepository.reconcileUseNumber();
+        priorityRepository.reconcileUseNumber();
+        statusRepository.reconcileUseNumber();
+        softwareRepository.reconcileUseNumberTicket();
+        softwareRepository.reconcileUseNumberKnowledge();
+    }
+
+    // Used when tickets are removed by cascade, e.g. together with their author, so only the affected rows are updated.
+    @Override
+    @Transactional
+    public void releaseTickets(List<TicketLookupCount> lookupCounts) {
+        sumBy(lookupCounts, TicketLookupCount::categoryID).forEach((id, count) -> categoryRepository.adjustUseNumber(id, -count));
+        sumBy(lookupCounts, TicketLookupCount::priorityID).forEach((id, count) -> priorityRepository.adjustUseNumber(id, -count));
+        sumBy(lookupCounts, TicketLookupCount::statusID).forEach((id, count) -> statusRepository.adjustUseNumber(id, -count));
+        sumBy(lookupCounts, TicketLookupCount::softwareID).forEach((id, count) -> softwareRepository.adjustUseNumberTicket(id, -count));
+    }
+
+    private static Map<Long, Long> sumBy(List<TicketLookupCount> lookupCounts, Function<TicketLookupCount, Long> lookup) {
+        return lookupCounts.stream()
+                .collect(Collectors.groupingBy(lookup, Collectors.summingLong(TicketLookupCount::count)));
+    }
+}
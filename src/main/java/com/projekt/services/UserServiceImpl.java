@@ -1,6 +1,7 @@
 package com.projekt.services;
 
 import com.projekt.converter.UserConverter;
+import com.projekt.events.TicketEvent;
 import com.projekt.exceptions.*;
 import com.projekt.models.Role;
 import com.projekt.models.User;
@@ -10,10 +11,16 @@ import com.projekt.payload.request.update.UpdateProfileDetailsRequest;
 import com.projekt.payload.request.update.UpdateUserRequest;
 import com.projekt.payload.response.LoginResponse;
 import com.projekt.payload.response.UserDetailsResponse;
+import com.projekt.models.TicketTombstone;
+import com.projekt.repositories.ArchivedTicketRepository;
 import com.projekt.repositories.RoleRepository;
+import com.projekt.repositories.TicketLookupCount;
+import com.projekt.repositories.TicketRepository;
+import com.projekt.repositories.TicketTombstoneRepository;
 import com.projekt.repositories.UserRepository;
 import com.projekt.security.jwt.JWTUtils;
 import com.projekt.security.services.UserDetailsImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,7 +35,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.mail.MessagingException;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service("userDetailsService")
 public class UserServiceImpl implements UserService{
@@ -39,9 +48,17 @@ public class UserServiceImpl implements UserService{
     private final JWTUtils jwtUtils;
     private final AuthenticationManager authenticationManager;
     private final UserConverter userConverter;
+    private final UsageCounterService usageCounterService;
+    private final TicketRepository ticketRepository;
+    private final TicketTombstoneRepository ticketTombstoneRepository;
+    private final ArchivedTicketRepository archivedTicketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserServiceImpl(UserRepository userRepository, MailService mailService, RoleRepository roleRepository,
-                           PasswordEncoder encoder, JWTUtils jwtUtils, @Lazy AuthenticationManager authenticationManager, UserConverter userConverter) {
+                           PasswordEncoder encoder, JWTUtils jwtUtils, @Lazy AuthenticationManager authenticationManager, UserConverter userConverter,
+                           UsageCounterService usageCounterService, TicketRepository ticketRepository,
+                           TicketTombstoneRepository ticketTombstoneRepository, ArchivedTicketRepository archivedTicketRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.mailService = mailService;
         this.roleRepository = roleRepository;
@@ -49,6 +66,11 @@ public class UserServiceImpl implements UserService{
         this.jwtUtils = jwtUtils;
         this.authenticationManager = authenticationManager;
         this.userConverter = userConverter;
+        this.usageCounterService = usageCounterService;
+        this.ticketRepository = ticketRepository;
+        this.ticketTombstoneRepository = ticketTombstoneRepository;
+        this.archivedTicketRepository = archivedTicketRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -87,6 +109,7 @@ public class UserServiceImpl implements UserService{
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("User", id));
@@ -96,7 +119,25 @@ public class UserServiceImpl implements UserService{
             throw DefaultEntityDeletionException.forDefaultAdmin();
         }
 
+        List<Long> ticketIDs = Stream.concat(
+                ticketRepository.findIdsByUserId(user.getId()).stream(),
+                archivedTicketRepository.findIdsByUserId(user.getId()).stream()
+        ).toList();
+        List<TicketLookupCount> lookupCounts = Stream.concat(
+                ticketRepository.countLookupsByUserId(user.getId()).stream(),
+                archivedTicketRepository.countLookupsByUserId(user.getId()).stream()
+        ).toList();
         userRepository.deleteById(user.getId());
+
+        Instant deletedAt = Instant.now();
+        ticketTombstoneRepository.saveAll(ticketIDs.stream()
+                .map(ticketID -> new TicketTombstone(ticketID, user.getId(), deletedAt))
+                .toList());
+
+        // The user's tickets are removed by cascade, bypassing the ticket service that maintains the usage counters
+        // and publishes the ticket events.
+        usageCounterService.releaseTickets(lookupCounts);
+        ticketIDs.forEach(ticketID -> eventPublisher.publishEvent(new TicketEvent(ticketID, TicketEvent.Types.DELETED)));
     }
 
     @Override
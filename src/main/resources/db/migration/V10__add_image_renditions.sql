@@ -0,0 +1,11 @@
+-- Thumbnails keyed by the hash of the original content, so images sharing content also share their thumbnails and
+-- archived images keep them. The thumbnail bytes are stored in the attachment storage under rendition_hash.
+
+CREATE TABLE image_renditions (
+    hash           CHAR(64)     NOT NULL,
+    size           INT          NOT NULL,
+    rendition_hash CHAR(64)     NOT NULL,
+    content_type   VARCHAR(255),
+    PRIMARY KEY (hash, size),
+    INDEX idx_image_renditions_rendition_hash (rendition_hash)
+) ENGINE = InnoDB;
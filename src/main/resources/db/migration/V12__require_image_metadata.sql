@@ -0,0 +1,13 @@
+-- V11 has moved every image's bytes to the attachment storage, so the metadata is now required and the bytes go.
+
+ALTER TABLE images
+    MODIFY size         BIGINT       NOT NULL,
+    MODIFY hash         CHAR(64)     NOT NULL,
+    MODIFY content_type VARCHAR(255) NOT NULL,
+    DROP COLUMN content;
+
+ALTER TABLE images_archive
+    MODIFY size         BIGINT       NOT NULL,
+    MODIFY hash         CHAR(64)     NOT NULL,
+    MODIFY content_type VARCHAR(255) NOT NULL,
+    DROP COLUMN content;
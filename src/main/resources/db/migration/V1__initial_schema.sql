@@ -0,0 +1,98 @@
+-- Schema as ddl-auto=update generated it from the entities before migrations were introduced. Databases created that
+-- way are baselined at this version, so every later change belongs in a new migration.
+
+CREATE TABLE roles (
+    id   BIGINT NOT NULL AUTO_INCREMENT,
+    type ENUM ('ROLE_ADMIN', 'ROLE_OPERATOR', 'ROLE_USER') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    surname  VARCHAR(255) NOT NULL,
+    role_id  BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE categories (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE priorities (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE statuses (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(255) NOT NULL,
+    close_ticket BIT          NOT NULL,
+    is_default   BIT          NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE software (
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    name                 VARCHAR(255) NOT NULL,
+    description          VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE knowledgebases (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(255) NOT NULL,
+    content      VARCHAR(255) NOT NULL,
+    created_date DATE         NOT NULL,
+    software_id  BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_knowledgebases_software FOREIGN KEY (software_id) REFERENCES software (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tickets (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(255) NOT NULL,
+    description  VARCHAR(255) NOT NULL,
+    created_date DATE         NOT NULL,
+    category_id  BIGINT       NOT NULL,
+    priority_id  BIGINT       NOT NULL,
+    status_id    BIGINT       NOT NULL,
+    version      VARCHAR(255) NOT NULL,
+    software_id  BIGINT       NOT NULL,
+    user_id      BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tickets_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_tickets_priority FOREIGN KEY (priority_id) REFERENCES priorities (id),
+    CONSTRAINT fk_tickets_status FOREIGN KEY (status_id) REFERENCES statuses (id),
+    CONSTRAINT fk_tickets_software FOREIGN KEY (software_id) REFERENCES software (id),
+    CONSTRAINT fk_tickets_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE images (
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    name      VARCHAR(255) NOT NULL,
+    content   MEDIUMBLOB   NOT NULL,
+    ticket_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_images_ticket FOREIGN KEY (ticket_id) REFERENCES tickets (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE replies (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT       NOT NULL,
+    content      VARCHAR(255) NOT NULL,
+    created_date DATE         NOT NULL,
+    ticket_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_replies_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_replies_ticket FOREIGN KEY (ticket_id) REFERENCES tickets (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,9 @@
+-- Indexes for the ticket lists, which are sorted by creation date and filtered by status, priority, category,
+-- software or author. The id column keeps the order stable between pages of tickets created on the same day.
+
+CREATE INDEX idx_tickets_created_date_id ON tickets (created_date, id);
+CREATE INDEX idx_tickets_status_created_date ON tickets (status_id, created_date, id);
+CREATE INDEX idx_tickets_priority_created_date ON tickets (priority_id, created_date, id);
+CREATE INDEX idx_tickets_category_created_date ON tickets (category_id, created_date, id);
+CREATE INDEX idx_tickets_software_created_date ON tickets (software_id, created_date, id);
+CREATE INDEX idx_tickets_user_created_date ON tickets (user_id, created_date, id);
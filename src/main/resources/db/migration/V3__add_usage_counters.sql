@@ -0,0 +1,16 @@
+-- Counters that tell whether a category, priority, status or software is still used, so deleting one no longer
+-- needs to scan the tickets. They start from the tickets and articles already stored.
+
+ALTER TABLE categories ADD COLUMN use_number BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE priorities ADD COLUMN use_number BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE statuses ADD COLUMN use_number BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE software
+    ADD COLUMN use_number_ticket    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN use_number_knowledge BIGINT NOT NULL DEFAULT 0;
+
+UPDATE categories c SET c.use_number = (SELECT COUNT(*) FROM tickets t WHERE t.category_id = c.id);
+UPDATE priorities p SET p.use_number = (SELECT COUNT(*) FROM tickets t WHERE t.priority_id = p.id);
+UPDATE statuses s SET s.use_number = (SELECT COUNT(*) FROM tickets t WHERE t.status_id = s.id);
+UPDATE software s
+SET s.use_number_ticket    = (SELECT COUNT(*) FROM tickets t WHERE t.software_id = s.id),
+    s.use_number_knowledge = (SELECT COUNT(*) FROM knowledgebases k WHERE k.software_id = s.id);
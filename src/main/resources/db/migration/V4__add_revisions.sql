@@ -0,0 +1,4 @@
+-- Optimistic locking for tickets and knowledge articles. Existing rows start at revision 0.
+
+ALTER TABLE tickets ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE knowledgebases ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
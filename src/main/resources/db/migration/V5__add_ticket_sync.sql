@@ -0,0 +1,17 @@
+-- Lets clients fetch only the tickets changed or deleted since their last sync. Existing tickets count as modified
+-- when this runs, so clients that synced before fetch them once more.
+
+ALTER TABLE tickets
+    ADD COLUMN last_modified DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    ADD INDEX idx_tickets_last_modified (last_modified),
+    ADD INDEX idx_tickets_user_last_modified (user_id, last_modified);
+
+CREATE TABLE ticket_tombstones (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    ticket_id  BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_ticket_tombstones_deleted_at (deleted_at),
+    INDEX idx_ticket_tombstones_user_deleted_at (user_id, deleted_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,45 @@
+-- Tickets closed for a while move here with their images and replies, which keeps the tickets table small.
+-- Archived rows keep their IDs, so the ID columns have no AUTO_INCREMENT.
+
+CREATE TABLE tickets_archive (
+    id            BIGINT       NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    description   VARCHAR(255) NOT NULL,
+    created_date  DATE         NOT NULL,
+    last_modified DATETIME(6)  NOT NULL,
+    category_id   BIGINT       NOT NULL,
+    priority_id   BIGINT       NOT NULL,
+    status_id     BIGINT       NOT NULL,
+    version       VARCHAR(255) NOT NULL,
+    software_id   BIGINT       NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    revision      BIGINT       NOT NULL,
+    archived_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_tickets_archive_user_created_date (user_id, created_date, id),
+    CONSTRAINT fk_tickets_archive_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_tickets_archive_priority FOREIGN KEY (priority_id) REFERENCES priorities (id),
+    CONSTRAINT fk_tickets_archive_status FOREIGN KEY (status_id) REFERENCES statuses (id),
+    CONSTRAINT fk_tickets_archive_software FOREIGN KEY (software_id) REFERENCES software (id),
+    CONSTRAINT fk_tickets_archive_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE images_archive (
+    id        BIGINT       NOT NULL,
+    name      VARCHAR(255) NOT NULL,
+    content   MEDIUMBLOB   NOT NULL,
+    ticket_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_images_archive_ticket FOREIGN KEY (ticket_id) REFERENCES tickets_archive (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE replies_archive (
+    id           BIGINT       NOT NULL,
+    user_id      BIGINT       NOT NULL,
+    content      VARCHAR(255) NOT NULL,
+    created_date DATE         NOT NULL,
+    ticket_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_replies_archive_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_replies_archive_ticket FOREIGN KEY (ticket_id) REFERENCES tickets_archive (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,25 @@
+-- Named indexes for the foreign keys that ticket, reply, image and knowledge queries join or filter on.
+-- InnoDB drops the implicit index it created for a foreign key once an explicit one can serve the constraint.
+-- Ticket foreign keys are already the leading columns of the composite indexes added by V2.
+
+CREATE INDEX idx_users_role ON users (role_id);
+
+CREATE INDEX idx_knowledgebases_software ON knowledgebases (software_id);
+
+CREATE INDEX idx_images_ticket ON images (ticket_id);
+
+CREATE INDEX idx_replies_ticket ON replies (ticket_id);
+CREATE INDEX idx_replies_user ON replies (user_id);
+
+-- Used by the archive job, which looks for tickets in a closing status that have not changed for a while.
+CREATE INDEX idx_tickets_status_last_modified ON tickets (status_id, last_modified);
+
+CREATE INDEX idx_tickets_archive_category ON tickets_archive (category_id);
+CREATE INDEX idx_tickets_archive_priority ON tickets_archive (priority_id);
+CREATE INDEX idx_tickets_archive_status ON tickets_archive (status_id);
+CREATE INDEX idx_tickets_archive_software ON tickets_archive (software_id);
+
+CREATE INDEX idx_images_archive_ticket ON images_archive (ticket_id);
+
+CREATE INDEX idx_replies_archive_ticket ON replies_archive (ticket_id);
+CREATE INDEX idx_replies_archive_user ON replies_archive (user_id);
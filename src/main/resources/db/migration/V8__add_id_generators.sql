@@ -0,0 +1,35 @@
+-- Tickets, replies, images, users and tombstones take their IDs from this table in blocks of 50, which lets
+-- Hibernate batch their inserts (IDENTITY columns need one round trip per row to read the generated key).
+-- Each row holds the last ID already handed out (hibernate.id.generator.stored_last_used), so the next block starts
+-- right after it. Starting from MAX(id) + 1 only leaves a gap of one ID.
+
+CREATE TABLE id_generators (
+    name     VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'tickets', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM tickets),
+        (SELECT COALESCE(MAX(id), 0) FROM tickets_archive),
+        (SELECT COALESCE(MAX(ticket_id), 0) FROM ticket_tombstones)
+) + 1;
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'replies', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM replies),
+        (SELECT COALESCE(MAX(id), 0) FROM replies_archive)
+) + 1;
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'images', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM images),
+        (SELECT COALESCE(MAX(id), 0) FROM images_archive)
+) + 1;
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 1 FROM users;
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'ticket_tombstones', COALESCE(MAX(id), 0) + 1 FROM ticket_tombstones;
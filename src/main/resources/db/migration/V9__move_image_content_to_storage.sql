@@ -0,0 +1,18 @@
+-- Image bytes move to the attachment storage, the tables keep only what is needed to find and serve them.
+-- The new columns stay nullable until V11 has moved the existing bytes and V12 drops content.
+
+ALTER TABLE images
+    ADD COLUMN size         BIGINT,
+    ADD COLUMN hash         CHAR(64),
+    ADD COLUMN content_type VARCHAR(255),
+    MODIFY content MEDIUMBLOB NULL;
+
+ALTER TABLE images_archive
+    ADD COLUMN size         BIGINT,
+    ADD COLUMN hash         CHAR(64),
+    ADD COLUMN content_type VARCHAR(255),
+    MODIFY content MEDIUMBLOB NULL;
+
+-- Used by the cleanup job to check whether stored content is still referenced.
+CREATE INDEX idx_images_hash ON images (hash);
+CREATE INDEX idx_images_archive_hash ON images_archive (hash);
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projekt.models.*;
 import com.projekt.payload.request.LoginRequest;
 import com.projekt.repositories.*;
+import com.projekt.services.AttachmentStorage;
 import com.projekt.services.MailService;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
@@ -25,16 +26,23 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Testcontainers
 @ActiveProfiles("test")
 public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
+    // Every authenticated request loads the user and their role in the JWT filter before reaching a controller.
+    protected static final long AUTHENTICATION_STATEMENTS = 2;
+    protected static final long AUTHENTICATION_ROWS = 2;
+
     @LocalServerPort
     protected int port;
 
@@ -62,18 +70,33 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private ImageRenditionRepository imageRenditionRepository;
+
     @Autowired
     private TicketReplyRepository ticketReplyRepository;
 
     @Autowired
     private KnowledgeRepository knowledgeRepository;
 
+    @Autowired
+    private TicketTombstoneRepository ticketTombstoneRepository;
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Autowired
+    private ArchivedTicketRepository archivedTicketRepository;
+
     @Autowired
     private RoleRepository roleRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
     @DynamicPropertySource
     static void dynamicProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", container::getJdbcUrl);
@@ -107,10 +130,26 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
         return response.jsonPath().getString("token");
     }
 
+    protected SqlStatementCounter.QueryCount countQueries(Runnable request) {
+        return sqlStatementCounter.count(request);
+    }
+
+    protected void assertWithinQueryBudget(long maxStatements, long maxRows, Runnable request) {
+        SqlStatementCounter.QueryCount count = countQueries(request);
+
+        assertTrue(count.statements() <= maxStatements,
+                () -> "Expected at most " + maxStatements + " SQL statements, but " + count.statements() + " were executed");
+        assertTrue(count.rows() <= maxRows,
+                () -> "Expected at most " + maxRows + " rows to be fetched, but " + count.rows() + " were read");
+    }
+
     public void clearDatabase(){
         imageRepository.deleteAll();
+        imageRenditionRepository.deleteAll();
         ticketReplyRepository.deleteAll();
         ticketRepository.deleteAll();
+        ticketTombstoneRepository.deleteAll();
+        archivedTicketRepository.deleteAll();
         knowledgeRepository.deleteAll();
         categoryRepository.deleteAll();
         priorityRepository.deleteAll();
@@ -136,7 +175,10 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
     }
 
     public Knowledge initializeSingleKnowledge(String title, String content, Long softwareID){
-        return knowledgeRepository.save(new Knowledge(title, content, softwareRepository.getReferenceById(softwareID)));
+        Knowledge knowledge = knowledgeRepository.save(new Knowledge(title, content, softwareRepository.getReferenceById(softwareID)));
+        softwareRepository.adjustUseNumberKnowledge(softwareID, 1);
+
+        return knowledge;
     }
 
     public List<Knowledge> initializeKnowledge(Long softwareID){
@@ -194,6 +236,11 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
         return userRepository.save(user);
     }
 
+    public Image initializeImage(String name, byte[] content) throws IOException {
+        AttachmentStorage.StoredContent storedContent = attachmentStorage.store(new ByteArrayInputStream(content));
+        return new Image(name, "image/png", storedContent.size(), storedContent.hash());
+    }
+
     public Ticket initializeTicketForUser(Long userID) throws IOException {
         Status status = initializeStatus("New",false, true);
         Priority priority = initializePriority("Normal");
@@ -214,7 +261,7 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
         ticket.setVersion("1.0");
         ticket.setCategory(category);
 
-        Image image = new Image("1.png", stream.toByteArray());
+        Image image = initializeImage("1.png", stream.toByteArray());
         List<Image> imageList = new ArrayList<>();
         imageList.add(image);
         ticket.setImages(imageList);
@@ -230,7 +277,10 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
         ticketReplyList.add(savedReply);
         ticket.setReplies(ticketReplyList);
 
-        return ticketRepository.save(ticket);
+        Ticket savedTicket = ticketRepository.save(ticket);
+        countTicketLookups(List.of(savedTicket));
+
+        return savedTicket;
     }
 
     public List<Ticket> initializeTicket(Long softwareID) throws IOException {
@@ -253,7 +303,7 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
         ticket1.setVersion("1.0");
         ticket1.setCategory(categoryList.get(0));
 
-        Image image1 = new Image("1.png", stream.toByteArray());
+        Image image1 = initializeImage("1.png", stream.toByteArray());
         List<Image> imageList1 = new ArrayList<>();
         imageList1.add(image1);
         ticket1.setImages(imageList1);
@@ -281,7 +331,7 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
         ticket2.setVersion("1.0");
         ticket2.setCategory(categoryList.get(0));
 
-        Image image2 = new Image("2.png", stream.toByteArray());
+        Image image2 = initializeImage("2.png", stream.toByteArray());
         List<Image> imageList2 = new ArrayList<>();
         imageList2.add(image2);
         ticket2.setImages(imageList2);
@@ -297,7 +347,19 @@ public abstract class BaseIntegrationTest extends SingletonMySQLContainer {
         ticket3.setVersion("1.0");
         ticket3.setCategory(categoryList.get(1));
 
-        List<Ticket> ticketList = List.of(ticket1,ticket2,ticket3);
-        return ticketRepository.saveAll(ticketList);
+        List<Ticket> ticketList = ticketRepository.saveAll(List.of(ticket1,ticket2,ticket3));
+        countTicketLookups(ticketList);
+
+        return ticketList;
+    }
+
+    // The fixtures are saved through the repositories, so the usage counters are moved here as TicketService.add does.
+    private void countTicketLookups(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
+            categoryRepository.adjustUseNumber(ticket.getCategory().getId(), 1);
+            priorityRepository.adjustUseNumber(ticket.getPriority().getId(), 1);
+            statusRepository.adjustUseNumber(ticket.getStatus().getId(), 1);
+            softwareRepository.adjustUseNumberTicket(ticket.getSoftware().getId(), 1);
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.projekt;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+// Marks the threads serving a request for SqlStatementCounter: the servlet thread, including the authentication
+// filters, and the async thread that writes streamed responses such as the export.
+@Component
+@Profile("test")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestStatementCounting extends OncePerRequestFilter implements WebMvcConfigurer {
+    private final SqlStatementCounter sqlStatementCounter;
+
+    public RequestStatementCounting(SqlStatementCounter sqlStatementCounter) {
+        this.sqlStatementCounter = sqlStatementCounter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementCounter.setCountedThread(true);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlStatementCounter.setCountedThread(false);
+        }
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+                sqlStatementCounter.setCountedThread(true);
+            }
+
+            @Override
+            public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+                sqlStatementCounter.setCountedThread(false);
+            }
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.projekt;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Profile("test")
+public class SqlStatementCounter implements BeanPostProcessor {
+    private static final Set<Class<?>> COUNTED_TYPES = Set.of(
+            Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class
+    );
+
+    // The data source used by the EntityManagerFactory; with a replica configured it routes to the pools behind it,
+    // so wrapping those too would count every statement twice.
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    // Only threads serving a request are counted, so scheduled jobs and async listeners do not inflate the budget.
+    private final ThreadLocal<Boolean> countedThread = ThreadLocal.withInitial(() -> false);
+
+    public record QueryCount(long statements, long rows) { }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && PRIMARY_DATA_SOURCE.equals(beanName)) {
+            return wrap(DataSource.class, dataSource);
+        }
+
+        return bean;
+    }
+
+    public QueryCount count(Runnable action) {
+        statements.set(0);
+        rows.set(0);
+
+        action.run();
+
+        return new QueryCount(statements.get(), rows.get());
+    }
+
+    public void setCountedThread(boolean counted) {
+        countedThread.set(counted);
+    }
+
+    private <T> T wrap(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+
+            record(target, method, result);
+            return wrapResult(method, result);
+        }));
+    }
+
+    private void record(Object target, Method method, Object result) {
+        if (!countedThread.get()) return;
+
+        if (target instanceof Statement && method.getName().startsWith("execute")) {
+            statements.incrementAndGet();
+        } else if (target instanceof ResultSet && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+            rows.incrementAndGet();
+        }
+    }
+
+    // Proxies are created for the declared return type, so callers casting to CallableStatement keep working.
+    @SuppressWarnings("unchecked")
+    private Object wrapResult(Method method, Object result) {
+        Class<?> returnType = method.getReturnType();
+
+        if (result == null || !COUNTED_TYPES.contains(returnType)) {
+            return result;
+        }
+
+        return wrap((Class<Object>) returnType, result);
+    }
+}
@@ -0,0 +1,123 @@
+package com.projekt.config;
+
+import com.projekt.BaseIntegrationTest;
+import com.projekt.SingletonMySQLContainer;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Databases created by ddl-auto=update before migrations were introduced are baselined at V1, so the remaining
+// migrations have to turn that schema into the one a new database gets.
+public class BaselineSchemaMigrationIT extends BaseIntegrationTest {
+    private static final String LEGACY_SCHEMA = "legacy_baseline";
+    private static final String FRESH_SCHEMA = "fresh_baseline";
+
+    @Autowired
+    private V11__Move_image_content_to_storage imageContentMigration;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUpSchemas() {
+        SingletonMySQLContainer container = SingletonMySQLContainer.container;
+        dataSource = new DriverManagerDataSource(container.getJdbcUrl(), "root", container.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        dropSchemas();
+    }
+
+    @AfterEach
+    public void dropSchemas() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + LEGACY_SCHEMA);
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + FRESH_SCHEMA);
+    }
+
+    /**
+     * Migration: V2__add_ticket_list_indexes ... V12__require_image_metadata
+     * Scenario: A database created by ddl-auto=update before migrations were introduced, holding a ticket with an
+     * image and a reply and a knowledge article, is baselined at V1 and migrated.
+     * Verification: Confirms the migrated schema has the same columns and indexes as a new database, that the usage
+     * counters and ID generators start from the stored rows and that the image bytes are moved to the storage.
+     */
+    @Test
+    public void migrate_BaselineSchema_MatchesNewDatabase() throws SQLException {
+        createBaselineSchema();
+        insertLegacyRows();
+
+        flyway(LEGACY_SCHEMA).migrate();
+        flyway(FRESH_SCHEMA).migrate();
+
+        assertEquals(columns(FRESH_SCHEMA), columns(LEGACY_SCHEMA));
+        assertEquals(indexes(FRESH_SCHEMA), indexes(LEGACY_SCHEMA));
+
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT use_number FROM " + LEGACY_SCHEMA + ".categories WHERE id = 1", Long.class));
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT use_number FROM " + LEGACY_SCHEMA + ".statuses WHERE id = 1", Long.class));
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT use_number_ticket FROM " + LEGACY_SCHEMA + ".software WHERE id = 1", Long.class));
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT use_number_knowledge FROM " + LEGACY_SCHEMA + ".software WHERE id = 1", Long.class));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT revision FROM " + LEGACY_SCHEMA + ".tickets WHERE id = 1", Long.class));
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT next_val FROM " + LEGACY_SCHEMA + ".id_generators WHERE name = 'tickets'", Long.class));
+        assertNotNull(jdbcTemplate.queryForObject("SELECT hash FROM " + LEGACY_SCHEMA + ".images WHERE id = 1", String.class));
+    }
+
+    private void createBaselineSchema() throws SQLException {
+        jdbcTemplate.execute("CREATE DATABASE " + LEGACY_SCHEMA);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setCatalog(LEGACY_SCHEMA);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline_schema.sql"));
+        }
+    }
+
+    private void insertLegacyRows() {
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".roles (id, type) VALUES (1, 'ROLE_USER')");
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".users (id, role_id, surname, username, name, email, password) " +
+                "VALUES (1, 1, 'Surname', 'user', 'Name', 'user@example.com', 'password')");
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".categories (id, name) VALUES (1, 'General')");
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".priorities (id, name) VALUES (1, 'Normal')");
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".statuses (id, name, close_ticket, is_default) VALUES (1, 'New', 0, 1)");
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".software (id, name, description) VALUES (1, 'Software', 'Software description')");
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".knowledgebases (id, created_date, software_id, title, content) " +
+                "VALUES (1, '2024-01-01', 1, 'Title', 'Knowledge article content')");
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".tickets (id, created_date, category_id, priority_id, software_id, " +
+                "status_id, user_id, version, title, description) VALUES (1, '2024-01-01', 1, 1, 1, 1, 1, '1.0', 'Title', 'Description')");
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".images (id, ticket_id, name, content) VALUES (1, 1, 'legacy.png', ?)",
+                "legacy content".getBytes(StandardCharsets.UTF_8));
+        jdbcTemplate.update("INSERT INTO " + LEGACY_SCHEMA + ".replies (id, created_date, ticket_id, user_id, content) " +
+                "VALUES (1, '2024-01-01', 1, 1, 'Reply content')");
+    }
+
+    // Column lengths and constraint names differ from the migrations and are not checked by ddl-auto=validate.
+    private List<String> columns(String schema) {
+        return jdbcTemplate.queryForList("SELECT CONCAT(table_name, '.', column_name, ' ', data_type, ' ', is_nullable) " +
+                "FROM information_schema.columns WHERE table_schema = ? AND table_name <> 'flyway_schema_history' ORDER BY 1",
+                String.class, schema);
+    }
+
+    private List<String> indexes(String schema) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT CONCAT(table_name, '.', index_name) FROM information_schema.statistics " +
+                "WHERE table_schema = ? AND index_name LIKE 'idx\\_%' ORDER BY 1", String.class, schema);
+    }
+
+    private Flyway flyway(String schema) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .javaMigrations(imageContentMigration)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+}
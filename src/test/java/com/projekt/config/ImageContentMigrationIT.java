@@ -0,0 +1,88 @@
+package com.projekt.config;
+
+import com.projekt.BaseIntegrationTest;
+import com.projekt.SingletonMySQLContainer;
+import com.projekt.services.AttachmentStorage;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the migrations against a separate schema, as the test database is already migrated past the point where
+// images kept their bytes.
+public class ImageContentMigrationIT extends BaseIntegrationTest {
+    private static final String SCHEMA = "legacy_images";
+    // SHA-256 of "legacy content".
+    private static final String LEGACY_CONTENT_HASH = "5842e8c261c6f246f2e1819da7ff4a214ba86853f4a7a42f26d7eddd48d2b98d";
+
+    @Autowired
+    private V11__Move_image_content_to_storage imageContentMigration;
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUpSchema() {
+        SingletonMySQLContainer container = SingletonMySQLContainer.container;
+        dataSource = new DriverManagerDataSource(container.getJdbcUrl(), "root", container.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+    }
+
+    @AfterEach
+    public void dropSchema() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+    }
+
+    /**
+     * Migration: V11__Move_image_content_to_storage, V12__require_image_metadata
+     * Scenario: An image saved before the attachment storage was introduced still has its bytes in the database
+     * when the remaining migrations run.
+     * Verification: Confirms the bytes are moved to the attachment storage, the metadata is filled in and the
+     * content column is dropped.
+     */
+    @Test
+    public void migrate_LegacyImage_MovesContentToStorage() throws IOException {
+        flyway("10").migrate();
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".images (id, name, content) VALUES (1, 'legacy.png', ?)",
+                "legacy content".getBytes(StandardCharsets.UTF_8));
+
+        flyway(null).migrate();
+
+        Map<String, Object> image = jdbcTemplate.queryForMap("SELECT content_type, size, hash FROM " + SCHEMA + ".images WHERE id = 1");
+        assertEquals("image/png", image.get("content_type"));
+        assertEquals(14L, ((Number) image.get("size")).longValue());
+        assertEquals(LEGACY_CONTENT_HASH, image.get("hash"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = ? AND table_name = 'images' AND column_name = 'content'",
+                Integer.class, SCHEMA));
+
+        try (InputStream content = attachmentStorage.load(LEGACY_CONTENT_HASH).getInputStream()) {
+            assertEquals("legacy content", new String(content.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .javaMigrations(imageContentMigration);
+        if (target != null) configuration.target(target);
+
+        return configuration.load();
+    }
+}
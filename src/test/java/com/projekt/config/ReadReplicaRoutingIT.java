@@ -0,0 +1,164 @@
+package com.projekt.config;
+
+import com.projekt.repositories.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReadReplicaRoutingIT {
+    private static final String IMAGE_VERSION = "mysql:8.0";
+    private static final long REPLICA_ONLY_CATEGORY_ID = 9000;
+
+    private static final Network network = Network.newNetwork();
+    private static final MySQLContainer<?> primary = new MySQLContainer<>(IMAGE_VERSION)
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass")
+            .withCommand("--server-id=1", "--log-bin=mysql-bin", "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+    // Only the application schema is replicated, the user accounts created on startup already exist on both servers.
+    private static final MySQLContainer<?> replica = new MySQLContainer<>(IMAGE_VERSION)
+            .withNetwork(network)
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass")
+            .withCommand("--server-id=2", "--gtid-mode=ON", "--enforce-gtid-consistency=ON", "--replicate-do-db=testdb");
+
+    static {
+        primary.start();
+        replica.start();
+
+        execute(replica,
+                "CHANGE REPLICATION SOURCE TO SOURCE_HOST = 'primary', SOURCE_USER = 'root', SOURCE_PASSWORD = 'testpass', "
+                        + "SOURCE_AUTO_POSITION = 1, GET_SOURCE_PUBLIC_KEY = 1",
+                "START REPLICA"
+        );
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            replica.stop();
+            primary.stop();
+            network.close();
+        }));
+    }
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void dynamicProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("sms.app.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("sms.app.datasource.replica.username", () -> "root");
+        registry.add("sms.app.datasource.replica.password", replica::getPassword);
+    }
+
+    // A row that exists only on the replica tells which server answered a query.
+    @BeforeEach
+    public void setUp() {
+        awaitReplication();
+        execute(replica, "INSERT IGNORE INTO categories (id, name, use_number) VALUES (" + REPLICA_ONLY_CATEGORY_ID + ", 'Replica only', 0)");
+        replicaLagMonitor.checkReplicaLag();
+    }
+
+    /**
+     * Scenario: Running a read-only and a read-write transaction while the replica is in sync with the primary.
+     * Verification: Confirms the read-only transaction is answered by the replica and the read-write one by the primary.
+     */
+    @Test
+    public void readOnlyTransaction_ReplicaInSync_ReadsFromReplica() {
+        assertTrue(replicaLagMonitor.isReplicaAvailable());
+        assertTrue(existsReplicaOnlyCategory(true));
+        assertFalse(existsReplicaOnlyCategory(false));
+    }
+
+    /**
+     * Scenario: Running a read-only transaction after replication has stopped, so the replica lag is unknown.
+     * Verification: Confirms the read-only transaction falls back to the primary until replication is running again.
+     */
+    @Test
+    public void readOnlyTransaction_ReplicationStopped_FallsBackToPrimary() {
+        execute(replica, "STOP REPLICA");
+
+        try {
+            replicaLagMonitor.checkReplicaLag();
+
+            assertFalse(replicaLagMonitor.isReplicaAvailable());
+            assertFalse(existsReplicaOnlyCategory(true));
+        } finally {
+            execute(replica, "START REPLICA");
+        }
+
+        awaitReplication();
+        replicaLagMonitor.checkReplicaLag();
+
+        assertTrue(replicaLagMonitor.isReplicaAvailable());
+        assertTrue(existsReplicaOnlyCategory(true));
+    }
+
+    private boolean existsReplicaOnlyCategory(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> categoryRepository.existsById(REPLICA_ONLY_CATEGORY_ID)));
+    }
+
+    // Blocks until the replica has applied every transaction the primary has committed so far.
+    private static void awaitReplication() {
+        try (Connection primaryConnection = connect(primary);
+             Statement primaryStatement = primaryConnection.createStatement();
+             ResultSet executed = primaryStatement.executeQuery("SELECT @@GLOBAL.gtid_executed");
+             Connection replicaConnection = connect(replica);
+             Statement replicaStatement = replicaConnection.createStatement()) {
+            executed.next();
+
+            try (ResultSet result = replicaStatement.executeQuery(
+                    "SELECT WAIT_FOR_EXECUTED_GTID_SET('" + executed.getString(1) + "', 30)")) {
+                result.next();
+                assertEquals(0, result.getInt(1), "Replica did not catch up with the primary");
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void execute(MySQLContainer<?> container, String... statements) {
+        try (Connection connection = connect(container); Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Connection connect(MySQLContainer<?> container) throws SQLException {
+        return DriverManager.getConnection(container.getJdbcUrl(), "root", container.getPassword());
+    }
+}
@@ -88,6 +88,28 @@ public class CategoryControllerOperatorIT extends BaseIntegrationTest {
         assertEquals(2, responseList.get(0).useNumber());
     }
 
+    /**
+     * Controller method: CategoryController.getAllCategoriesWithUseNumbers
+     * HTTP Method: GET
+     * Endpoint: /api/categories/use
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all categories with associated usage numbers.
+     * Verification: Confirms the usage numbers are read from the counter columns with a single query.
+     */
+    @Test
+    public void getAllCategoriesWithUseNumbers_StaysWithinQueryBudget() throws IOException {
+        Long softwareID = initializeSoftware().get(0).getId();
+        initializeTicket(softwareID);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 1, AUTHENTICATION_ROWS + 3, () -> given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/categories/use")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
     /**
      * Controller method: CategoryController.getCategoryById
      * HTTP Method: GET
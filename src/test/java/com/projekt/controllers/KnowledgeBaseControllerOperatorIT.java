@@ -50,6 +50,28 @@ public class KnowledgeBaseControllerOperatorIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: KnowledgeBaseController.getAllKnowledgeItems
+     * HTTP Method: GET
+     * Endpoint: /api/knowledge-bases
+     * Expected Status: 200 OK
+     * Scenario: Retrieve all knowledge items.
+     * Verification: Confirms the request stays within its SQL statement and fetched row budget.
+     */
+    @Test
+    public void getAllKnowledgeItems_StaysWithinQueryBudget() {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        initializeKnowledge(softwareID);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 2, AUTHENTICATION_ROWS + 3, () -> given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/knowledge-bases")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
     /**
      * Controller method: KnowledgeBaseController.getKnowledgeById
      * HTTP Method: GET
@@ -87,6 +87,28 @@ public class PriorityControllerOperatorIT extends BaseIntegrationTest {
         assertEquals(2, responseList.get(1).useNumber());
     }
 
+    /**
+     * Controller method: PriorityController.getAllPrioritiesWithUseNumbers
+     * HTTP Method: GET
+     * Endpoint: /api/priorities/use
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all priorities with associated usage numbers.
+     * Verification: Confirms the usage numbers are read from the counter columns with a single query.
+     */
+    @Test
+    public void getAllPrioritiesWithUseNumbers_StaysWithinQueryBudget() throws IOException {
+        Long softwareID = initializeSoftware().get(0).getId();
+        initializeTicket(softwareID);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 1, AUTHENTICATION_ROWS + 3, () -> given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/priorities/use")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
     /**
      * Controller method: PriorityController.getPriorityById
      * HTTP Method: GET
@@ -93,6 +93,29 @@ public class SoftwareControllerOperatorIT extends BaseIntegrationTest {
         assertEquals(0, responseList.get(1).useNumberKnowledge());
     }
 
+    /**
+     * Controller method: SoftwareController.getAllSoftwareWithUseNumbers
+     * HTTP Method: GET
+     * Endpoint: /api/software/use
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all software with ticket and knowledge base use numbers.
+     * Verification: Confirms the usage numbers are read from the counter columns with a single query.
+     */
+    @Test
+    public void getAllSoftwareWithUseNumbers_StaysWithinQueryBudget() throws IOException {
+        List<Software> softwareList = initializeSoftware();
+        initializeKnowledge(softwareList.get(0).getId());
+        initializeTicket(softwareList.get(0).getId());
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 1, AUTHENTICATION_ROWS + 2, () -> given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/software/use")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
     /**
      * Controller method: SoftwareController.getSoftwareById
      * HTTP Method: GET
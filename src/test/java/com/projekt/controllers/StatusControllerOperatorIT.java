@@ -87,6 +87,28 @@ public class StatusControllerOperatorIT extends BaseIntegrationTest {
         assertEquals(2, statusList.get(0).useNumber());
     }
 
+    /**
+     * Controller method: StatusController.getAllStatusesWithUseNumbers
+     * HTTP Method: GET
+     * Endpoint: /api/statuses/use
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all statuses with associated usage numbers.
+     * Verification: Confirms the usage numbers are read from the counter columns with a single query.
+     */
+    @Test
+    public void getAllStatusesWithUseNumbers_StaysWithinQueryBudget() throws IOException {
+        Long softwareID = initializeSoftware().get(0).getId();
+        initializeTicket(softwareID);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 1, AUTHENTICATION_ROWS + 3, () -> given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/statuses/use")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
     /**
      * Controller method: StatusController.getStatusById
      * HTTP Method: GET
@@ -8,22 +8,38 @@ import com.projekt.payload.request.add.AddTicketReplyRequest;
 import com.projekt.payload.request.add.AddTicketRequest;
 import com.projekt.payload.request.update.UpdateTicketRequest;
 import com.projekt.payload.request.update.UpdateTicketStatusRequest;
+import com.projekt.payload.response.TicketSummaryResponse;
+import com.projekt.repositories.TicketReplyRepository;
+import com.projekt.repositories.TicketRepository;
+import com.projekt.services.TicketSearchService;
 import io.restassured.http.ContentType;
 import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class TicketControllerAdminIT extends BaseIntegrationTest {
     private String jwtToken;
 
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketReplyRepository ticketReplyRepository;
+
+    @Autowired
+    private TicketSearchService ticketSearchService;
+
     @BeforeEach
     public void setUpTestData() throws JsonProcessingException {
         jwtToken = getJwtToken("admin", "admin");
@@ -230,6 +246,30 @@ public class TicketControllerAdminIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}
+     * Expected Status: 401 Unauthorized
+     * Scenario: Attempt to download an image of a ticket as a user without sufficient permissions.
+     */
+    @Test
+    public void getImage_InsufficientPermissions_ReturnsUnauthorized() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Long imageID = ticketList.get(0).getImages().get(0).getId();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", imageID)
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.UNAUTHORIZED.value())
+                .body("message", equalTo("Full authentication is required to access this resource"))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.deleteImage
      * HTTP Method: DELETE
@@ -340,4 +380,119 @@ public class TicketControllerAdminIT extends BaseIntegrationTest {
                 .body("message", equalTo("Full authentication is required to access this resource"))
                 .log().all();
     }
+
+    /**
+     * Controller method: TicketController.importTickets
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/import
+     * Expected Status: 200 OK
+     * Scenario: Importing two tickets given as newline-delimited JSON, one with a reply and an original creation date.
+     * Verification: Confirms both tickets and the reply are stored, names are resolved to the existing lookups
+     * and the original creation date is kept.
+     */
+    @Test
+    public void importTickets_ValidData_ImportsTicketsWithReplies() {
+        initializeCategory("Bug");
+        initializePriority("High");
+        initializeStatuses();
+        initializeSingleSoftware("Software name", "Software description");
+
+        String body = """
+                {"title":"Imported ticket","description":"Imported description","category":"Bug","priority":"High","status":"Closed","software":"Software name","version":"1.0","username":"user","createdDate":"2021-12-11","replies":[{"username":"operator","content":"Imported reply","createdDate":"2021-12-12"}]}
+                {"title":"Second imported ticket","description":"Imported description","category":"bug","priority":"high","software":"Software name","version":"2.0","username":"user"}
+                """;
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType("application/x-ndjson")
+                .body(body)
+                .when()
+                .post("/api/tickets/import")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("imported", equalTo(2))
+                .log().all();
+
+        List<Ticket> tickets = ticketRepository.findAll();
+        Ticket importedTicket = tickets.stream()
+                .filter(ticket -> ticket.getTitle().equals("Imported ticket"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(2, tickets.size());
+        assertEquals(1, ticketReplyRepository.count());
+        assertEquals(LocalDate.of(2021, 12, 11), importedTicket.getCreatedDate());
+        assertEquals("Closed", importedTicket.getStatus().getName());
+    }
+
+    /**
+     * Controller method: TicketController.importTickets
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/import
+     * Expected Status: 200 OK
+     * Scenario: Importing a ticket while the search index already holds the existing tickets.
+     * Verification: Confirms the imported ticket is found by the text of its reply without rebuilding the index.
+     */
+    @Test
+    public void importTickets_ValidData_IndexesImportedTickets() {
+        initializeCategory("Bug");
+        initializePriority("High");
+        initializeStatuses();
+        initializeSingleSoftware("Software name", "Software description");
+        ticketSearchService.rebuildIndex();
+
+        String body = """
+                {"title":"Imported ticket","description":"Imported description","category":"Bug","priority":"High","software":"Software name","version":"1.0","username":"user","replies":[{"username":"operator","content":"Restart the printer spooler"}]}
+                """;
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType("application/x-ndjson")
+                .body(body)
+                .when()
+                .post("/api/tickets/import")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("imported", equalTo(1));
+
+        Ticket importedTicket = ticketRepository.findAll().get(0);
+        List<TicketSummaryResponse> hits = ticketSearchService.search("printer spooler", 0, 20).items();
+
+        assertEquals(1, hits.size());
+        assertEquals(importedTicket.getId(), hits.get(0).id());
+    }
+
+    /**
+     * Controller method: TicketController.importTickets
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/import
+     * Expected Status: 400 BAD REQUEST
+     * Scenario: Importing tickets where the second ticket references a category that does not exist.
+     * Verification: Confirms the failing ticket is reported and no ticket of the unfinished batch is stored.
+     */
+    @Test
+    public void importTickets_UnknownCategory_ReturnsBadRequest() {
+        initializeCategory("Bug");
+        initializePriority("High");
+        initializeStatuses();
+        initializeSingleSoftware("Software name", "Software description");
+
+        String body = """
+                {"title":"Imported ticket","description":"Imported description","category":"Bug","priority":"High","software":"Software name","version":"1.0","username":"user"}
+                {"title":"Second imported ticket","description":"Imported description","category":"Missing","priority":"High","software":"Software name","version":"1.0","username":"user"}
+                """;
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType("application/x-ndjson")
+                .body(body)
+                .when()
+                .post("/api/tickets/import")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body(equalTo("Import stopped at ticket 2: Category 'Missing' not found. 0 tickets were imported."))
+                .log().all();
+
+        assertEquals(0, ticketRepository.count());
+    }
 }
@@ -4,26 +4,40 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projekt.BaseIntegrationTest;
 import com.projekt.models.Ticket;
+import com.projekt.models.TicketReply;
+import com.projekt.payload.request.SyncToken;
 import com.projekt.payload.request.add.AddTicketReplyRequest;
 import com.projekt.payload.request.add.AddTicketRequest;
 import com.projekt.payload.request.update.UpdateTicketRequest;
 import com.projekt.payload.request.update.UpdateTicketStatusRequest;
+import com.projekt.payload.request.update.UpdateTicketsStatusRequest;
 import com.projekt.repositories.ImageRepository;
 import com.projekt.repositories.TicketReplyRepository;
 import com.projekt.repositories.TicketRepository;
+import com.projekt.repositories.UserRepository;
+import com.projekt.services.TicketArchiveService;
+import com.projekt.services.TicketSearchService;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.*;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public class TicketControllerOperatorIT extends BaseIntegrationTest {
     private String jwtToken;
@@ -37,6 +51,15 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketSearchService ticketSearchService;
+
+    @Autowired
+    private TicketArchiveService ticketArchiveService;
+
     @BeforeEach
     public void setUpTestData() throws JsonProcessingException {
         jwtToken = getJwtToken("operator", "operator");
@@ -67,6 +90,158 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: TicketController.getAllTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets?limit={limit}&cursor={cursor}
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all tickets page by page using the cursor returned with the previous page.
+     * Verification: Confirms the pages are ordered from the newest ticket, do not overlap and the last page has no next cursor.
+     */
+    @Test
+    public void getAllTickets_WithLimit_ReturnsPagesUsingCursor() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+
+        Response firstPage = given()
+                .auth().oauth2(jwtToken)
+                .queryParam("limit", 2)
+                .when()
+                .get("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .header(TicketController.NEXT_CURSOR_HEADER, notNullValue())
+                .body("size()", equalTo(2))
+                .body("[0].id", equalTo(ticketList.get(2).getId().intValue()))
+                .body("[1].id", equalTo(ticketList.get(1).getId().intValue()))
+                .log().all()
+                .extract().response();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("limit", 2)
+                .queryParam("cursor", firstPage.getHeader(TicketController.NEXT_CURSOR_HEADER))
+                .when()
+                .get("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .header(TicketController.NEXT_CURSOR_HEADER, nullValue())
+                .body("size()", equalTo(1))
+                .body("[0].id", equalTo(ticketList.get(0).getId().intValue()))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getAllTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets?view=summary
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all tickets in the lightweight summary view.
+     * Verification: Confirms the summaries carry the lookup names, owner and reply count, but not the ticket description.
+     */
+    @Test
+    public void getAllTickets_SummaryView_ReturnsTicketSummariesSuccessfully() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Ticket ticket = ticketList.get(0);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("view", "summary")
+                .when()
+                .get("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("size()", equalTo(ticketList.size()))
+                .body("[2].id", equalTo(ticket.getId().intValue()))
+                .body("[2].title", equalTo(ticket.getTitle()))
+                .body("[2].status", equalTo(ticket.getStatus().getName()))
+                .body("[2].software", equalTo("Software name"))
+                .body("[2].owner", equalTo("user"))
+                .body("[2].replyCount", equalTo(1))
+                .body("[2].description", nullValue())
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getAllTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets?statusID={statusID}
+     * Expected Status: 200 OK
+     * Scenario: Retrieving only the tickets with the given status.
+     * Verification: Confirms only the ticket with the requested status is returned.
+     */
+    @Test
+    public void getAllTickets_FilteredByStatus_ReturnsMatchingTickets() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Ticket closedTicket = ticketList.get(2);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("statusID", closedTicket.getStatus().getId())
+                .when()
+                .get("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("size()", equalTo(1))
+                .body("[0].id", equalTo(closedTicket.getId().intValue()))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getAllTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets?direction=ASC
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all tickets from the oldest one.
+     * Verification: Confirms the tickets are returned in ascending order of creation.
+     */
+    @Test
+    public void getAllTickets_AscendingDirection_ReturnsOldestTicketFirst() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("direction", "ASC")
+                .when()
+                .get("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("size()", equalTo(ticketList.size()))
+                .body("[0].id", equalTo(ticketList.get(0).getId().intValue()))
+                .body("[2].id", equalTo(ticketList.get(2).getId().intValue()))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getAllTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets?cursor={cursor}
+     * Expected Status: 400 BAD REQUEST
+     * Scenario: Retrieving tickets with a cursor that was not issued by the server.
+     */
+    @Test
+    public void getAllTickets_InvalidCursor_ReturnsBadRequest() {
+        String cursor = "not-a-cursor";
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("cursor", cursor)
+                .when()
+                .get("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body(equalTo("Invalid page cursor: '" + cursor + "'"))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.getUserTickets
      * HTTP Method: GET
@@ -75,66 +250,608 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
      * Scenario: Attempting to retrieve user tickets as a user without sufficient permissions.
      */
     @Test
-    public void getUserTickets_InsufficientPermissions_ReturnsUnauthorized() throws IOException {
+    public void getUserTickets_InsufficientPermissions_ReturnsUnauthorized() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        initializeTicket(softwareID);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/user")
+                .then()
+                .statusCode(HttpStatus.UNAUTHORIZED.value())
+                .body("message", equalTo("Full authentication is required to access this resource"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketsByUserId
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/user/{userID}
+     * Expected Status: 200 OK
+     * Scenario: Retrieving tickets by a valid user ID.
+     * Verification: Confirms the returned list size matches the expected ticket count for the given user ID.
+     */
+    @Test
+    public void getTicketsByUserId_ValidId_ReturnsTicketsSuccessfully() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        initializeTicket(softwareID);
+        long userID = 1;
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("userID", userID)
+                .when()
+                .get("/api/tickets/user/{userID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("size()", equalTo(2))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketsByUserId
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/user/{userID}
+     * Expected Status: 404 NOT FOUND
+     * Scenario: Retrieving tickets with an invalid user ID.
+     */
+    @Test
+    public void getTicketsByUserId_InvalidId_ReturnsNotFound() {
+        long userID = 1000;
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("userID", userID)
+                .when()
+                .get("/api/tickets/user/{userID}")
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body(equalTo("User with ID " + userID + " not found."))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.searchTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/search?q={query}
+     * Expected Status: 200 OK
+     * Scenario: Searching tickets by words from the title and from a reply.
+     * Verification: Confirms the best matching ticket is returned first and the total hit count is sent in the header.
+     */
+    @Test
+    public void searchTickets_ReturnsRelevanceRankedTickets() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        Ticket ticket = initializeTicket(softwareID).get(0);
+        ticketSearchService.rebuildIndex();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("q", "unreachable website")
+                .when()
+                .get("/api/tickets/search")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .header(TicketController.TOTAL_COUNT_HEADER, "1")
+                .body("size()", equalTo(1))
+                .body("[0].id", equalTo(ticket.getId().intValue()))
+                .body("[0].title", equalTo(ticket.getTitle()))
+                .log().all();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("q", "correct address")
+                .when()
+                .get("/api/tickets/search")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("[0].id", equalTo(ticket.getId().intValue()))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.searchTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/search?q={query}&page={page}&limit={limit}
+     * Expected Status: 400 BAD_REQUEST
+     * Scenario: Requesting a page so far back that its offset does not fit in an int.
+     * Verification: Confirms the page is refused instead of overflowing the offset of the first hit.
+     */
+    @Test
+    public void searchTickets_HugePage_ReturnsBadRequest() {
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("q", "unreachable website")
+                .queryParam("page", Integer.MAX_VALUE)
+                .queryParam("limit", 100)
+                .when()
+                .get("/api/tickets/search")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body(equalTo("Search page " + Integer.MAX_VALUE + " is out of range, only the first 10000 results can be paged through"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.searchTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/search?q={query}
+     * Expected Status: 200 OK
+     * Scenario: Searching for a ticket right after its title was changed.
+     * Verification: Confirms the index is updated when the ticket update is saved.
+     */
+    @Test
+    public void searchTickets_UpdatedTicket_ReturnsTicketByNewTitle() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        Ticket ticket = initializeTicket(softwareID).get(1);
+        ticketSearchService.rebuildIndex();
+
+        UpdateTicketRequest request = new UpdateTicketRequest(ticket.getId(), "Printer is out of paper", "Updated description",
+                ticket.getCategory().getId(), ticket.getPriority().getId(), "1.0", softwareID);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .body(objectMapper.writeValueAsString(request))
+                .when()
+                .put("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("q", "printer")
+                .when()
+                .get("/api/tickets/search")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", equalTo(1))
+                .body("[0].id", equalTo(ticket.getId().intValue()))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketChanges
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/changes
+     * Expected Status: 200 OK
+     * Scenario: Starting a sync without a sync token.
+     * Verification: Confirms every ticket is returned together with a sync token and no deleted IDs.
+     */
+    @Test
+    public void getTicketChanges_WithoutSyncToken_ReturnsAllTickets() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/changes")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("changed.size()", equalTo(ticketList.size()))
+                .body("deletedIDs", empty())
+                .body("syncToken", notNullValue())
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketChanges
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/changes
+     * Expected Status: 200 OK
+     * Scenario: Syncing with the token of a previous sync after one ticket changed status and another was deleted.
+     * Verification: Confirms the changed ticket is returned and the deleted ticket is reported by its ID.
+     */
+    @Test
+    public void getTicketChanges_WithSyncToken_ReturnsChangedAndDeletedTickets() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Long changedTicketID = ticketList.get(0).getId();
+        Long deletedTicketID = ticketList.get(1).getId();
+
+        String syncToken = given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/changes")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract().path("syncToken");
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .body(new ObjectMapper().writeValueAsString(new UpdateTicketStatusRequest(changedTicketID, ticketList.get(2).getStatus().getId())))
+                .when()
+                .post("/api/tickets/status")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("ticketID", deletedTicketID)
+                .when()
+                .delete("/api/tickets/{ticketID}")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("since", syncToken)
+                .when()
+                .get("/api/tickets/changes")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("changed.id", hasItem(changedTicketID.intValue()))
+                .body("changed.id", not(hasItem(deletedTicketID.intValue())))
+                .body("deletedIDs", contains(deletedTicketID.intValue()))
+                .body("syncToken", not(equalTo(syncToken)))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketChanges
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/changes?limit=2
+     * Expected Status: 200 OK
+     * Scenario: Starting a sync without a sync token with a page size smaller than the number of tickets.
+     * Verification: Confirms the first page carries a cursor but no sync token, and following the cursor returns
+     * the remaining ticket together with the sync token.
+     */
+    @Test
+    public void getTicketChanges_PageLimit_ReturnsChangesInPages() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+
+        Response firstPage = given()
+                .auth().oauth2(jwtToken)
+                .queryParam("limit", 2)
+                .when()
+                .get("/api/tickets/changes")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("changed.size()", equalTo(2))
+                .body("syncToken", nullValue())
+                .body("nextCursor", notNullValue())
+                .extract().response();
+
+        Response lastPage = given()
+                .auth().oauth2(jwtToken)
+                .queryParam("limit", 2)
+                .queryParam("cursor", firstPage.path("nextCursor").toString())
+                .when()
+                .get("/api/tickets/changes")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("changed.size()", equalTo(1))
+                .body("syncToken", notNullValue())
+                .body("nextCursor", nullValue())
+                .log().all()
+                .extract().response();
+
+        List<Long> changedIDs = new ArrayList<>();
+        firstPage.jsonPath().getList("changed.id", Long.class).forEach(changedIDs::add);
+        lastPage.jsonPath().getList("changed.id", Long.class).forEach(changedIDs::add);
+
+        assertEquals(ticketList.stream().map(Ticket::getId).sorted().toList(), changedIDs.stream().sorted().toList());
+    }
+
+    /**
+     * Controller method: TicketController.getTicketChanges
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/changes
+     * Expected Status: 410 GONE
+     * Scenario: Syncing with a token older than the tombstone retention period.
+     */
+    @Test
+    public void getTicketChanges_ExpiredSyncToken_ReturnsGone() {
+        String syncToken = new SyncToken(Instant.now().minus(Duration.ofDays(365))).encode();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("since", syncToken)
+                .when()
+                .get("/api/tickets/changes")
+                .then()
+                .statusCode(HttpStatus.GONE.value())
+                .body(equalTo("Sync token has expired, a full sync is required."))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketChanges
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/changes
+     * Expected Status: 400 BAD REQUEST
+     * Scenario: Syncing with a token that was not issued by the server.
+     */
+    @Test
+    public void getTicketChanges_InvalidSyncToken_ReturnsBadRequest() {
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("since", "not-a-token")
+                .when()
+                .get("/api/tickets/changes")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body(equalTo("Invalid sync token: 'not-a-token'"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.streamTicketEvents
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/events
+     * Expected Status: 200 OK
+     * Scenario: Subscribing to ticket change events until the stream times out.
+     * Verification: Confirms the stream is served as text/event-stream and starts with the reconnect delay.
+     */
+    @Test
+    public void streamTicketEvents_ReturnsEventStream() {
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/events")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith(MediaType.TEXT_EVENT_STREAM_VALUE))
+                .body(containsString("retry:3000"))
+                .body(containsString(":connected"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.exportTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/export
+     * Expected Status: 200 OK
+     * Scenario: Exporting all tickets as newline-delimited JSON.
+     * Verification: Confirms every ticket is written as a separate JSON line, ordered by ticket ID.
+     */
+    @Test
+    public void exportTickets_ReturnsOneJsonLinePerTicket() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+
+        String body = given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/export")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("application/x-ndjson")
+                .extract().asString();
+
+        List<String> lines = body.lines().toList();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertEquals(ticketList.size(), lines.size());
+        assertEquals(ticketList.get(0).getId(), objectMapper.readTree(lines.get(0)).get("id").asLong());
+        assertEquals(ticketList.get(2).getTitle(), objectMapper.readTree(lines.get(2)).get("title").asText());
+    }
+
+    /**
+     * Controller method: TicketController.exportTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/export
+     * Expected Status: 200 OK
+     * Scenario: Exporting all tickets after a closed ticket was moved to the archive.
+     * Verification: Confirms the archived ticket is exported after the tickets still in the hot table.
+     */
+    @Test
+    public void exportTickets_ArchivedTicket_IsStillExported() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        assertEquals(1, ticketArchiveService.archiveClosedBefore(Instant.now().plusSeconds(1)));
+
+        String body = given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/export")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract().asString();
+
+        List<String> lines = body.lines().toList();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertEquals(ticketList.size(), lines.size());
+        assertEquals(ticketList.get(2).getId(), objectMapper.readTree(lines.get(2)).get("id").asLong());
+        assertEquals(ticketList.get(2).getTitle(), objectMapper.readTree(lines.get(2)).get("title").asText());
+    }
+
+    /**
+     * Controller method: TicketController.exportTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/export
+     * Expected Status: 200 OK
+     * Scenario: Exporting tickets that have replies and images.
+     * Verification: Confirms the replies, authors and images of a page are fetched together instead of once per ticket.
+     */
+    @Test
+    public void exportTickets_StaysWithinQueryBudget() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        initializeTicket(softwareID);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 4, AUTHENTICATION_ROWS + 8, () -> given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/export")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
+    /**
+     * Controller method: TicketController.getTicketById
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/{ticketID}
+     * Expected Status: 200 OK
+     * Scenario: Retrieving a ticket by valid ID.
+     * Verification: Confirms the response contains the ticket details matching the provided ticket ID.
+     */
+    @Test
+    public void getTicketById_ValidId_ReturnsTicketDetailsSuccessfully() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Ticket ticket = ticketList.get(0);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("ticketID", ticket.getId())
+                .when()
+                .get("/api/tickets/{ticketID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("id", equalTo(ticket.getId().intValue()))
+                .body("title", equalTo(ticket.getTitle()))
+                .body("description", equalTo(ticket.getDescription()))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketById
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/{ticketID}
+     * Expected Status: 200 OK
+     * Scenario: Retrieving ticket details for tickets with one and with many replies written by different users.
+     * Verification: Confirms the number of executed SQL statements does not depend on the number of replies.
+     */
+    @Test
+    public void getTicketById_ManyReplies_ExecutesConstantNumberOfStatements() throws IOException {
+        Ticket ticketWithOneReply = initializeTicketForUser(1L);
+        long statementsForOneReply = countStatementsForTicketDetails(ticketWithOneReply.getId(), 1);
+
+        clearDatabase();
+        Ticket ticketWithManyReplies = initializeTicketForUser(1L);
+        for (long userID = 1; userID <= 3; userID++) {
+            for (int i = 0; i < 3; i++) {
+                ticketWithManyReplies.getReplies().add(ticketReplyRepository.save(
+                        new TicketReply(userRepository.getReferenceById(userID), "Reply number " + i, LocalDate.now())
+                ));
+            }
+        }
+        ticketWithManyReplies = ticketRepository.save(ticketWithManyReplies);
+        long statementsForManyReplies = countStatementsForTicketDetails(ticketWithManyReplies.getId(), 10);
+
+        assertEquals(statementsForOneReply, statementsForManyReplies);
+    }
+
+    private long countStatementsForTicketDetails(Long ticketID, int expectedReplies) {
+        return countQueries(() -> given()
+                .auth().oauth2(jwtToken)
+                .pathParam("ticketID", ticketID)
+                .when()
+                .get("/api/tickets/{ticketID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("replies.size()", equalTo(expectedReplies))
+        ).statements();
+    }
+
+    /**
+     * Controller method: TicketController.getAllTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all tickets in the full view.
+     * Verification: Confirms the request stays within its SQL statement and fetched row budget.
+     */
+    @Test
+    public void getAllTickets_StaysWithinQueryBudget() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        initializeTicket(softwareID);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 16, AUTHENTICATION_ROWS + 16, () -> given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
+    /**
+     * Controller method: TicketController.getAllTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets?view=summary
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all tickets in the summary view.
+     * Verification: Confirms the whole page is read with a single statement, one row per ticket.
+     */
+    @Test
+    public void getAllTickets_SummaryView_StaysWithinQueryBudget() throws IOException {
         Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
-        initializeTicket(softwareID);
+        List<Ticket> ticketList = initializeTicket(softwareID);
 
-        given()
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 1, AUTHENTICATION_ROWS + ticketList.size(), () -> given()
                 .auth().oauth2(jwtToken)
+                .queryParam("view", "summary")
                 .when()
-                .get("/api/tickets/user")
+                .get("/api/tickets")
                 .then()
-                .statusCode(HttpStatus.UNAUTHORIZED.value())
-                .body("message", equalTo("Full authentication is required to access this resource"))
-                .log().all();
+                .statusCode(HttpStatus.OK.value())
+        );
     }
 
     /**
-     * Controller method: TicketController.getTicketsByUserId
+     * Controller method: TicketController.getTicketById
      * HTTP Method: GET
-     * Endpoint: /api/tickets/user/{userID}
+     * Endpoint: /api/tickets/{ticketID}
      * Expected Status: 200 OK
-     * Scenario: Retrieving tickets by a valid user ID.
-     * Verification: Confirms the returned list size matches the expected ticket count for the given user ID.
+     * Scenario: Retrieving ticket details as an operator.
+     * Verification: Confirms the revision, the ticket graph, the operator checks and the images are read within the budget.
      */
     @Test
-    public void getTicketsByUserId_ValidId_ReturnsTicketsSuccessfully() throws IOException {
-        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
-        initializeTicket(softwareID);
-        long userID = 1;
+    public void getTicketById_StaysWithinQueryBudget() throws IOException {
+        Ticket ticket = initializeTicketForUser(1L);
 
-        given()
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 5, AUTHENTICATION_ROWS + 5, () -> given()
                 .auth().oauth2(jwtToken)
-                .pathParam("userID", userID)
+                .pathParam("ticketID", ticket.getId())
                 .when()
-                .get("/api/tickets/user/{userID}")
+                .get("/api/tickets/{ticketID}")
                 .then()
                 .statusCode(HttpStatus.OK.value())
-                .contentType(ContentType.JSON)
-                .body("size()", equalTo(2))
-                .log().all();
+        );
     }
 
     /**
-     * Controller method: TicketController.getTicketsByUserId
+     * Controller method: TicketController.getTicketById
      * HTTP Method: GET
-     * Endpoint: /api/tickets/user/{userID}
-     * Expected Status: 404 NOT FOUND
-     * Scenario: Retrieving tickets with an invalid user ID.
+     * Endpoint: /api/tickets/{ticketID}
+     * Expected Status: 304 NOT MODIFIED
+     * Scenario: Retrieving an unchanged ticket with the ETag returned by a previous request.
+     * Verification: Confirms only the revision and the operator check are read, without loading the ticket graph.
      */
     @Test
-    public void getTicketsByUserId_InvalidId_ReturnsNotFound() {
-        long userID = 1000;
+    public void getTicketById_MatchingETag_ReturnsNotModified() throws IOException {
+        Ticket ticket = initializeTicketForUser(1L);
 
-        given()
+        String eTag = given()
                 .auth().oauth2(jwtToken)
-                .pathParam("userID", userID)
+                .pathParam("ticketID", ticket.getId())
                 .when()
-                .get("/api/tickets/user/{userID}")
+                .get("/api/tickets/{ticketID}")
                 .then()
-                .statusCode(HttpStatus.NOT_FOUND.value())
-                .body(equalTo("User with ID " + userID + " not found."))
-                .log().all();
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, notNullValue())
+                .extract().header(HttpHeaders.ETAG);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 2, AUTHENTICATION_ROWS + 2, () -> given()
+                .auth().oauth2(jwtToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .pathParam("ticketID", ticket.getId())
+                .when()
+                .get("/api/tickets/{ticketID}")
+                .then()
+                .statusCode(HttpStatus.NOT_MODIFIED.value())
+                .header(HttpHeaders.ETAG, equalTo(eTag))
+        );
     }
 
     /**
@@ -142,26 +859,42 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
      * HTTP Method: GET
      * Endpoint: /api/tickets/{ticketID}
      * Expected Status: 200 OK
-     * Scenario: Retrieving a ticket by valid ID.
-     * Verification: Confirms the response contains the ticket details matching the provided ticket ID.
+     * Scenario: Retrieving a ticket with an old ETag after a reply was added to it.
+     * Verification: Confirms the added reply changes the ETag and the full ticket is returned again.
      */
     @Test
-    public void getTicketById_ValidId_ReturnsTicketDetailsSuccessfully() throws IOException {
+    public void getTicketById_ReplyAddedSinceETag_ReturnsTicketWithNewETag() throws IOException {
         Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
-        List<Ticket> ticketList = initializeTicket(softwareID);
-        Ticket ticket = ticketList.get(0);
+        Ticket ticket = initializeTicket(softwareID).get(0);
 
-        given()
+        String eTag = given()
                 .auth().oauth2(jwtToken)
                 .pathParam("ticketID", ticket.getId())
                 .when()
                 .get("/api/tickets/{ticketID}")
                 .then()
                 .statusCode(HttpStatus.OK.value())
+                .extract().header(HttpHeaders.ETAG);
+
+        given()
+                .auth().oauth2(jwtToken)
                 .contentType(ContentType.JSON)
-                .body("id", equalTo(ticket.getId().intValue()))
-                .body("title", equalTo(ticket.getTitle()))
-                .body("description", equalTo(ticket.getDescription()))
+                .body(new ObjectMapper().writeValueAsString(new AddTicketReplyRequest(ticket.getId(), "Reply content")))
+                .when()
+                .post("/api/tickets/reply")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .pathParam("ticketID", ticket.getId())
+                .when()
+                .get("/api/tickets/{ticketID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, not(equalTo(eTag)))
+                .body("replies.content", hasItem("Reply content"))
                 .log().all();
     }
 
@@ -246,6 +979,81 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: TicketController.updateTicket
+     * HTTP Method: PUT
+     * Endpoint: /api/tickets
+     * Expected Status: 200 OK
+     * Scenario: Updating a ticket with the If-Match header set to the ETag of its current revision.
+     * Verification: Confirms the update is applied and the ticket gets a new ETag.
+     */
+    @Test
+    public void updateTicket_MatchingIfMatch_ReturnsSuccess() throws IOException {
+        Ticket ticket = initializeTicketForUser(1L);
+        String eTag = getTicketETag(ticket.getId());
+
+        UpdateTicketRequest request = new UpdateTicketRequest(ticket.getId(), "Updated title", "Updated description",
+                ticket.getCategory().getId(), ticket.getPriority().getId(), "2.1", ticket.getSoftware().getId());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .body(new ObjectMapper().writeValueAsString(request))
+                .when()
+                .put("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body(equalTo("Ticket details updated"))
+                .log().all();
+
+        assertNotEquals(eTag, getTicketETag(ticket.getId()));
+    }
+
+    /**
+     * Controller method: TicketController.updateTicket
+     * HTTP Method: PUT
+     * Endpoint: /api/tickets
+     * Expected Status: 409 CONFLICT
+     * Scenario: Updating a ticket with an If-Match ETag that was read before another update.
+     * Verification: Confirms the second writer is rejected and the first update is kept.
+     */
+    @Test
+    public void updateTicket_StaleIfMatch_ReturnsConflict() throws IOException {
+        Ticket ticket = initializeTicketForUser(1L);
+        String eTag = getTicketETag(ticket.getId());
+
+        UpdateTicketRequest firstRequest = new UpdateTicketRequest(ticket.getId(), "First title", "First description",
+                ticket.getCategory().getId(), ticket.getPriority().getId(), "2.1", ticket.getSoftware().getId());
+        UpdateTicketRequest secondRequest = new UpdateTicketRequest(ticket.getId(), "Second title", "Second description",
+                ticket.getCategory().getId(), ticket.getPriority().getId(), "2.2", ticket.getSoftware().getId());
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .body(objectMapper.writeValueAsString(firstRequest))
+                .when()
+                .put("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .body(objectMapper.writeValueAsString(secondRequest))
+                .when()
+                .put("/api/tickets")
+                .then()
+                .statusCode(HttpStatus.CONFLICT.value())
+                .body(equalTo("Ticket with ID " + ticket.getId() + " was modified by another request."))
+                .log().all();
+
+        assertEquals("First title", ticketRepository.findById(ticket.getId()).orElseThrow().getTitle());
+    }
+
     /**
      * Controller method: TicketController.updateTicket
      * HTTP Method: PUT
@@ -482,6 +1290,28 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}
+     * Expected Status: 404 NOT FOUND
+     * Scenario: Downloading an image with an invalid image ID.
+     */
+    @Test
+    public void getImage_InvalidImageId_ReturnsNotFound() {
+        long imageID = 1000;
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", imageID)
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body(equalTo("Image with ID " + imageID + " not found."))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.deleteImage
      * HTTP Method: DELETE
@@ -633,6 +1463,43 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
         Mockito.verify(mailService, Mockito.times(1)).sendChangeStatusMessage(Mockito.anyLong(), Mockito.anyString(), Mockito.anyString());
     }
 
+    /**
+     * Controller method: TicketController.changeTicketStatus
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/status
+     * Expected Status: 200 OK
+     * Scenario: Changing the status of a ticket and then retrieving the status usage numbers.
+     * Verification: Confirms the usage counter moves from the previous status to the new one.
+     */
+    @Test
+    public void changeTicketStatus_ValidData_UpdatesStatusUseNumbers() throws JsonProcessingException, IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Long ticketID = ticketList.get(0).getId();
+        long statusID = ticketList.get(2).getStatus().getId();
+
+        String updateTicketStatusJson = new ObjectMapper().writeValueAsString(new UpdateTicketStatusRequest(ticketID, statusID));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .body(updateTicketStatusJson)
+                .when()
+                .post("/api/tickets/status")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/statuses/use")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("find { it.name == 'New' }.useNumber", equalTo(1))
+                .body("find { it.name == 'Closed' }.useNumber", equalTo(2))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.changeTicketStatus
      * HTTP Method: POST
@@ -729,6 +1596,108 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
         Mockito.verify(mailService, Mockito.times(0)).sendChangeStatusMessage(Mockito.anyLong(), Mockito.anyString(), Mockito.anyString());
     }
 
+    /**
+     * Controller method: TicketController.changeTicketsStatus
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/status/bulk
+     * Expected Status: 200 OK
+     * Scenario: Closing several tickets at once, one of which is already closed.
+     * Verification: Confirms only the tickets in another status are counted, all tickets end up closed,
+     * the usage counters move with them and no notification is sent inline.
+     */
+    @Test
+    public void changeTicketsStatus_ValidData_ChangesStatusOfAllTickets() throws MessagingException, IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        List<Long> ticketIDs = ticketList.stream().map(Ticket::getId).toList();
+        long statusID = ticketList.get(2).getStatus().getId();
+
+        String updateTicketsStatusJson = new ObjectMapper().writeValueAsString(new UpdateTicketsStatusRequest(ticketIDs, statusID));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .body(updateTicketsStatusJson)
+                .when()
+                .post("/api/tickets/status/bulk")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body(equalTo("Status changed for 2 tickets"))
+                .log().all();
+
+        ticketRepository.findAllById(ticketIDs)
+                .forEach(ticket -> assertEquals(statusID, ticket.getStatus().getId()));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/statuses/use")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("find { it.name == 'New' }.useNumber", equalTo(0))
+                .body("find { it.name == 'Closed' }.useNumber", equalTo(3));
+
+        Mockito.verify(mailService, Mockito.times(0)).sendChangeStatusMessage(Mockito.anyLong(), Mockito.anyString(), Mockito.anyString());
+    }
+
+    /**
+     * Controller method: TicketController.changeTicketsStatus
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/status/bulk
+     * Expected Status: 200 OK
+     * Scenario: Changing the status of tickets that are unknown or already in the requested status.
+     * Verification: Confirms no ticket is counted as changed.
+     */
+    @Test
+    public void changeTicketsStatus_NoTicketToChange_ReturnsZero() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        long statusID = ticketList.get(2).getStatus().getId();
+
+        String updateTicketsStatusJson = new ObjectMapper().writeValueAsString(
+                new UpdateTicketsStatusRequest(List.of(ticketList.get(2).getId(), 1000L), statusID)
+        );
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .body(updateTicketsStatusJson)
+                .when()
+                .post("/api/tickets/status/bulk")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body(equalTo("Status changed for 0 tickets"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.changeTicketsStatus
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/status/bulk
+     * Expected Status: 404 NOT FOUND
+     * Scenario: Changing the status of several tickets to a status that does not exist.
+     */
+    @Test
+    public void changeTicketsStatus_InvalidStatusId_ReturnsNotFound() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        List<Long> ticketIDs = ticketList.stream().map(Ticket::getId).toList();
+        long statusID = 1000;
+
+        String updateTicketsStatusJson = new ObjectMapper().writeValueAsString(new UpdateTicketsStatusRequest(ticketIDs, statusID));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .body(updateTicketsStatusJson)
+                .when()
+                .post("/api/tickets/status/bulk")
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body(equalTo("Status with ID " + statusID + " not found."))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.deleteTicketReply
      * HTTP Method: DELETE
@@ -781,4 +1750,38 @@ public class TicketControllerOperatorIT extends BaseIntegrationTest {
                 .body(equalTo("Ticket reply with ID " + ticketReplyID + " not found."))
                 .log().all();
     }
+
+    /**
+     * Controller method: TicketController.importTickets
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/import
+     * Expected Status: 401 UNAUTHORIZED
+     * Scenario: Attempting to import tickets as an operator without sufficient permissions.
+     */
+    @Test
+    public void importTickets_InsufficientPermissions_ReturnsUnauthorized() {
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType("application/x-ndjson")
+                .body("{\"title\":\"Imported ticket\"}\n")
+                .when()
+                .post("/api/tickets/import")
+                .then()
+                .statusCode(HttpStatus.UNAUTHORIZED.value())
+                .body("message", equalTo("Full authentication is required to access this resource"))
+                .log().all();
+
+        assertEquals(0, ticketRepository.count());
+    }
+
+    private String getTicketETag(Long ticketID) {
+        return given()
+                .auth().oauth2(jwtToken)
+                .pathParam("ticketID", ticketID)
+                .when()
+                .get("/api/tickets/{ticketID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract().header(HttpHeaders.ETAG);
+    }
 }
@@ -3,28 +3,39 @@ package com.projekt.controllers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projekt.BaseIntegrationTest;
+import com.projekt.models.Image;
 import com.projekt.models.Ticket;
 import com.projekt.payload.request.add.AddTicketReplyRequest;
 import com.projekt.payload.request.add.AddTicketRequest;
 import com.projekt.payload.request.update.UpdateTicketRequest;
 import com.projekt.payload.request.update.UpdateTicketStatusRequest;
+import com.projekt.payload.request.update.UpdateTicketsStatusRequest;
 import com.projekt.repositories.ImageRepository;
 import com.projekt.repositories.TicketReplyRepository;
 import com.projekt.repositories.TicketRepository;
+import com.projekt.services.ThumbnailService;
+import com.projekt.services.TicketArchiveService;
 import io.restassured.http.ContentType;
 import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class TicketControllerUserIT extends BaseIntegrationTest {
     private String jwtToken;
@@ -38,6 +49,12 @@ public class TicketControllerUserIT extends BaseIntegrationTest {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private TicketArchiveService ticketArchiveService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
     @BeforeEach
     public void setUpTestData() throws JsonProcessingException {
         jwtToken = getJwtToken("user", "user");
@@ -66,6 +83,87 @@ public class TicketControllerUserIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: TicketController.searchTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/search?q={query}
+     * Expected Status: 401 UNAUTHORIZED
+     * Scenario: Verifying that the user role cannot search all tickets.
+     */
+    @Test
+    public void searchTickets_InsufficientPermissions_ReturnsUnauthorized() {
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("q", "website")
+                .when()
+                .get("/api/tickets/search")
+                .then()
+                .statusCode(HttpStatus.UNAUTHORIZED.value())
+                .body("message", equalTo("Full authentication is required to access this resource"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.exportTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/export
+     * Expected Status: 401 UNAUTHORIZED
+     * Scenario: Verifying that the user role cannot export tickets.
+     */
+    @Test
+    public void exportTickets_InsufficientPermissions_ReturnsUnauthorized() {
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/export")
+                .then()
+                .statusCode(HttpStatus.UNAUTHORIZED.value())
+                .body("message", equalTo("Full authentication is required to access this resource"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketChanges
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/changes
+     * Expected Status: 200 OK
+     * Scenario: Starting a sync as a user while other users also have tickets.
+     * Verification: Confirms only the tickets of the logged-in user are returned.
+     */
+    @Test
+    public void getTicketChanges_ReturnsOnlyOwnTickets() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/changes")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("changed.id", containsInAnyOrder(ticketList.get(0).getId().intValue(), ticketList.get(2).getId().intValue()))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.streamTicketEvents
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/events
+     * Expected Status: 401 UNAUTHORIZED
+     * Scenario: Verifying that the user role cannot subscribe to ticket change events.
+     */
+    @Test
+    public void streamTicketEvents_InsufficientPermissions_ReturnsUnauthorized() {
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/events")
+                .then()
+                .statusCode(HttpStatus.UNAUTHORIZED.value())
+                .body("message", equalTo("Full authentication is required to access this resource"))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.getUserTickets
      * HTTP Method: GET
@@ -90,6 +188,87 @@ public class TicketControllerUserIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: TicketController.getUserTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/user?view=summary
+     * Expected Status: 200 OK
+     * Scenario: Retrieving the user's own tickets in the summary view.
+     * Verification: Confirms only the user's ID is looked up and the page is read with one statement per ticket table.
+     */
+    @Test
+    public void getUserTickets_SummaryView_StaysWithinQueryBudget() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        initializeTicket(softwareID);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 3, AUTHENTICATION_ROWS + 3, () -> given()
+                .auth().oauth2(jwtToken)
+                .queryParam("view", "summary")
+                .when()
+                .get("/api/tickets/user")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", equalTo(2))
+        );
+    }
+
+    /**
+     * Controller method: TicketController.getUserTickets
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/user
+     * Expected Status: 200 OK
+     * Scenario: Retrieving the user's own tickets after their closed ticket was moved to the archive.
+     * Verification: Confirms the closed ticket left the hot table and is still listed together with the open one.
+     */
+    @Test
+    public void getUserTickets_ArchivedTicket_IsStillListed() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> tickets = initializeTicket(softwareID);
+
+        assertEquals(1, ticketArchiveService.archiveClosedBefore(Instant.now().plusSeconds(1)));
+        assertFalse(ticketRepository.existsById(tickets.get(2).getId()));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/tickets/user")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("size()", equalTo(2))
+                .body("id", hasItems(tickets.get(0).getId().intValue(), tickets.get(2).getId().intValue()))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getTicketById
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/{ticketID}
+     * Expected Status: 200 OK
+     * Scenario: Retrieving the user's own ticket after it was moved to the archive.
+     * Verification: Confirms the archived ticket is returned under its original ID together with its details.
+     */
+    @Test
+    public void getTicketById_ArchivedTicket_ReturnsTicket() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        Ticket ticket = initializeTicket(softwareID).get(2);
+
+        ticketArchiveService.archiveClosedBefore(Instant.now().plusSeconds(1));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("ticketID", ticket.getId())
+                .when()
+                .get("/api/tickets/{ticketID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("id", equalTo(ticket.getId().intValue()))
+                .body("title", equalTo(ticket.getTitle()))
+                .body("status.name", equalTo(ticket.getStatus().getName()))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.getTicketsByUserId
      * HTTP Method: GET
@@ -120,7 +299,7 @@ public class TicketControllerUserIT extends BaseIntegrationTest {
      * Endpoint: /api/tickets/{ticketID}
      * Expected Status: 200 OK
      * Scenario: Retrieve ticket by ID which author is the user.
-     * Verification: Confirms the ticket details match the expected ticket properties.
+     * Verification: Confirms the ticket details match the expected ticket properties and images are returned as links.
      */
     @Test
     public void getTicketById_UserTicket_ReturnsTicketDetailsSuccessfully() throws IOException {
@@ -139,6 +318,8 @@ public class TicketControllerUserIT extends BaseIntegrationTest {
                 .body("id", equalTo(ticket.getId().intValue()))
                 .body("title", equalTo(ticket.getTitle()))
                 .body("description", equalTo(ticket.getDescription()))
+                .body("images[0].url", equalTo("/api/tickets/image/" + ticket.getImages().get(0).getId()))
+                .body("images[0]", not(hasKey("content")))
                 .log().all();
     }
 
@@ -376,6 +557,308 @@ public class TicketControllerUserIT extends BaseIntegrationTest {
         assertEquals(imageRepository.count(), imageNumber);
     }
 
+    /**
+     * Controller method: TicketController.addImages
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/{ticketID}/image
+     * Expected Status: 413 PAYLOAD_TOO_LARGE
+     * Scenario: Attempting to add an image larger than the attachment size limit of the test profile.
+     * Verification: Confirms the upload is rejected while it is streamed and the image repository count remains unchanged.
+     */
+    @Test
+    public void addImages_FileOverSizeLimit_ReturnsPayloadTooLarge() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Long ticketID = ticketList.get(0).getId();
+
+        long imageNumber = imageRepository.count();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.MULTIPART)
+                .multiPart("files", "image.png", new byte[2 * 1024 * 1024], "image/png")
+                .pathParam("ticketID", ticketID)
+                .when()
+                .post("/api/tickets/{ticketID}/image")
+                .then()
+                .statusCode(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .body(equalTo("File exceeds the maximum size of 1048576 bytes"))
+                .log().all();
+
+        assertEquals(imageRepository.count(), imageNumber);
+    }
+
+    /**
+     * Controller method: TicketController.addImages
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/{ticketID}/image
+     * Expected Status: 200 OK
+     * Scenario: Add an image whose declared content type is not an image type.
+     * Verification: Confirms the content type is taken from the file name and the image is shown inline.
+     */
+    @Test
+    public void addImages_NonImageContentType_StoresTypeOfFileName() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        Long ticketID = initializeTicket(softwareID).get(0).getId();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.MULTIPART)
+                .multiPart("files", "uploaded.png", "dummyImageContent".getBytes(), "text/html")
+                .pathParam("ticketID", ticketID)
+                .when()
+                .post("/api/tickets/{ticketID}/image")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        Image image = findImageByName("uploaded.png");
+        assertEquals("image/png", image.getContentType());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", image.getId())
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("image/png")
+                .header(HttpHeaders.CONTENT_DISPOSITION, startsWith("inline"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}
+     * Expected Status: 200 OK
+     * Scenario: Download an SVG image, which can carry scripts.
+     * Verification: Confirms the image is sent as an attachment instead of being shown inline.
+     */
+    @Test
+    public void getImage_SvgImage_ReturnsAttachment() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        Long ticketID = initializeTicket(softwareID).get(0).getId();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.MULTIPART)
+                .multiPart("files", "drawing.svg", "<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes(), "image/svg+xml")
+                .pathParam("ticketID", ticketID)
+                .when()
+                .post("/api/tickets/{ticketID}/image")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", findImageByName("drawing.svg").getId())
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("image/svg+xml")
+                .header(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}
+     * Expected Status: 200 OK
+     * Scenario: Download an image of a ticket which author is the user.
+     * Verification: Confirms the raw bytes are returned with the stored content type, length and hash as ETag.
+     */
+    @Test
+    public void getImage_UserTicket_ReturnsContent() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Image image = ticketList.get(0).getImages().get(0);
+
+        byte[] content = given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", image.getId())
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("image/png")
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(image.getSize()))
+                .header(HttpHeaders.ETAG, "\"" + image.getHash() + "\"")
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .extract().asByteArray();
+
+        assertEquals(image.getSize(), content.length);
+    }
+
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}
+     * Expected Status: 206 PARTIAL CONTENT
+     * Scenario: Download the first ten bytes of an image with a Range header.
+     * Verification: Confirms only the requested range is returned, with a matching Content-Range header.
+     */
+    @Test
+    public void getImage_RangeRequest_ReturnsPartialContent() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Image image = ticketList.get(0).getImages().get(0);
+
+        byte[] content = given()
+                .auth().oauth2(jwtToken)
+                .header(HttpHeaders.RANGE, "bytes=0-9")
+                .pathParam("imageID", image.getId())
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.PARTIAL_CONTENT.value())
+                .header(HttpHeaders.CONTENT_RANGE, "bytes 0-9/" + image.getSize())
+                .header(HttpHeaders.CONTENT_LENGTH, "10")
+                .extract().asByteArray();
+
+        assertEquals(10, content.length);
+    }
+
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}
+     * Expected Status: 200 OK
+     * Scenario: Download an image of the user's closed ticket after it was moved to the archive.
+     * Verification: Confirms the image is still served from the archive table.
+     */
+    @Test
+    public void getImage_ArchivedTicket_ReturnsContent() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        Ticket closedTicket = initializeTicket(softwareID).get(2);
+        closedTicket.getImages().add(initializeImage("3.png", "closedTicketImage".getBytes()));
+        Long imageID = ticketRepository.save(closedTicket).getImages().get(0).getId();
+
+        ticketArchiveService.archiveClosedBefore(Instant.now().plusSeconds(60));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", imageID)
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body(equalTo("closedTicketImage"));
+    }
+
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}
+     * Expected Status: 403 FORBIDDEN
+     * Scenario: Attempting to download an image of a ticket which author is other user.
+     */
+    @Test
+    public void getImage_OtherUserTicket_ReturnsForbidden() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Long imageID = ticketList.get(1).getImages().get(0).getId();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", imageID)
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.FORBIDDEN.value())
+                .body(equalTo("You do not have permission to access to this image"))
+                .log().all();
+    }
+
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}?size=160
+     * Expected Status: 200 OK
+     * Scenario: Download the thumbnail of an image after its renditions were generated.
+     * Verification: Confirms a PNG scaled to the requested size is returned with its own hash as ETag and cached as immutable.
+     */
+    @Test
+    public void getImage_ThumbnailSize_ReturnsRendition() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        Ticket closedTicket = initializeTicket(softwareID).get(2);
+        closedTicket.getImages().add(initializeImage("large.png", pngImage(400, 200)));
+        Image image = ticketRepository.save(closedTicket).getImages().get(0);
+
+        thumbnailService.generate(image.getHash());
+
+        byte[] content = given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", image.getId())
+                .queryParam("size", 160)
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("image/png")
+                .header(HttpHeaders.ETAG, not("\"" + image.getHash() + "\""))
+                .header(HttpHeaders.CACHE_CONTROL, containsString("immutable"))
+                .extract().asByteArray();
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(content));
+        assertEquals(160, thumbnail.getWidth());
+        assertEquals(80, thumbnail.getHeight());
+    }
+
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}?size=640
+     * Expected Status: 200 OK
+     * Scenario: Download the thumbnail of an image before its renditions were generated.
+     * Verification: Confirms the original is returned in its place and has to be revalidated by the browser.
+     */
+    @Test
+    public void getImage_ThumbnailNotGenerated_ReturnsOriginal() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        Ticket closedTicket = initializeTicket(softwareID).get(2);
+        closedTicket.getImages().add(initializeImage("wide.png", pngImage(1000, 100)));
+        Image image = ticketRepository.save(closedTicket).getImages().get(0);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", image.getId())
+                .queryParam("size", 640)
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(image.getSize()))
+                .header(HttpHeaders.ETAG, "\"" + image.getHash() + "\"")
+                .header(HttpHeaders.CACHE_CONTROL, containsString("no-cache"));
+    }
+
+    /**
+     * Controller method: TicketController.getImage
+     * HTTP Method: GET
+     * Endpoint: /api/tickets/image/{imageID}?size=100
+     * Expected Status: 400 BAD REQUEST
+     * Scenario: Attempting to download an image in a size that has no configured rendition.
+     */
+    @Test
+    public void getImage_UnsupportedSize_ReturnsBadRequest() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        Long imageID = ticketList.get(0).getImages().get(0).getId();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("imageID", imageID)
+                .queryParam("size", 100)
+                .when()
+                .get("/api/tickets/image/{imageID}")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body(equalTo("Invalid image size: 100, supported sizes: [160, 640]"))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.deleteImage
      * HTTP Method: DELETE
@@ -572,6 +1055,34 @@ public class TicketControllerUserIT extends BaseIntegrationTest {
         Mockito.verify(mailService, Mockito.times(0)).sendChangeStatusMessage(Mockito.anyLong(), Mockito.anyString(), Mockito.anyString());
     }
 
+    /**
+     * Controller method: TicketController.changeTicketsStatus
+     * HTTP Method: POST
+     * Endpoint: /api/tickets/status/bulk
+     * Expected Status: 401 UNAUTHORIZED
+     * Scenario: Attempt to change the status of several tickets as a user without sufficient permissions.
+     */
+    @Test
+    public void changeTicketsStatus_InsufficientPermissions_ReturnsUnauthorized() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        List<Long> ticketIDs = ticketList.stream().map(Ticket::getId).toList();
+        long statusID = ticketList.get(2).getStatus().getId();
+
+        String updateTicketsStatusJson = new ObjectMapper().writeValueAsString(new UpdateTicketsStatusRequest(ticketIDs, statusID));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .contentType(ContentType.JSON)
+                .body(updateTicketsStatusJson)
+                .when()
+                .post("/api/tickets/status/bulk")
+                .then()
+                .statusCode(HttpStatus.UNAUTHORIZED.value())
+                .body("message", equalTo("Full authentication is required to access this resource"))
+                .log().all();
+    }
+
     /**
      * Controller method: TicketController.deleteTicketReply
      * HTTP Method: DELETE
@@ -595,4 +1106,17 @@ public class TicketControllerUserIT extends BaseIntegrationTest {
                 .body("message", equalTo("Full authentication is required to access this resource"))
                 .log().all();
     }
+
+    private byte[] pngImage(int width, int height) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", stream);
+        return stream.toByteArray();
+    }
+
+    private Image findImageByName(String name) {
+        return imageRepository.findAll().stream()
+                .filter(image -> image.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
 }
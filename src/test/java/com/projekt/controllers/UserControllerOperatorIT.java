@@ -11,6 +11,7 @@ import com.projekt.repositories.ImageRepository;
 import com.projekt.repositories.TicketReplyRepository;
 import com.projekt.repositories.TicketRepository;
 import com.projekt.repositories.UserRepository;
+import com.projekt.services.TicketSearchService;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +39,9 @@ public class UserControllerOperatorIT extends BaseIntegrationTest {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private TicketSearchService ticketSearchService;
+
     @BeforeEach
     public void setUpTestData() throws JsonProcessingException {
         jwtToken = getJwtToken("operator", "operator");
@@ -72,6 +76,28 @@ public class UserControllerOperatorIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: UserController.getUserById
+     * HTTP Method: GET
+     * Endpoint: /api/users/{userID}
+     * Expected Status: 200 OK
+     * Scenario: Retrieving user details by ID.
+     * Verification: Confirms the user and their role are read with a single statement.
+     */
+    @Test
+    public void getUserById_StaysWithinQueryBudget() {
+        User user = initializeUser("username", "password", Role.Types.ROLE_USER);
+
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 1, AUTHENTICATION_ROWS + 1, () -> given()
+                .auth().oauth2(jwtToken)
+                .pathParam("userID", user.getId())
+                .when()
+                .get("/api/users/{userID}")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
     /**
      * Controller method: UserController.getUserById
      * HTTP Method: GET
@@ -322,6 +348,25 @@ public class UserControllerOperatorIT extends BaseIntegrationTest {
                 .log().all();
     }
 
+    /**
+     * Controller method: UserController.getAllUsers
+     * HTTP Method: GET
+     * Endpoint: /api/users
+     * Expected Status: 200 OK
+     * Scenario: Retrieving all users from the repository.
+     * Verification: Confirms the request stays within its SQL statement and fetched row budget.
+     */
+    @Test
+    public void getAllUsers_StaysWithinQueryBudget() {
+        assertWithinQueryBudget(AUTHENTICATION_STATEMENTS + 4, AUTHENTICATION_ROWS + 6, () -> given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/users")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
     /**
      * Controller method: UserController.deleteUser
      * HTTP Method: DELETE
@@ -404,6 +449,79 @@ public class UserControllerOperatorIT extends BaseIntegrationTest {
         assertEquals(imageRepository.count(), imageNumbers-1);
     }
 
+    /**
+     * Controller method: UserController.deleteUser
+     * HTTP Method: DELETE
+     * Endpoint: /api/users/{userID}
+     * Expected Status: 200 OK
+     * Scenario: Deleting a user whose tickets are removed together with the account.
+     * Verification: Confirms that the usage counters no longer count the removed tickets.
+     */
+    @Test
+    public void deleteUser_UserWithTickets_ReleasesUseNumbers() throws IOException {
+        Long userID = initializeUser("username", "password", Role.Types.ROLE_USER).getId();
+        initializeTicketForUser(userID);
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("userID", userID)
+                .when()
+                .delete("/api/users/{userID}")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/statuses/use")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("find { it.name == 'New' }.useNumber", equalTo(0));
+
+        given()
+                .auth().oauth2(jwtToken)
+                .when()
+                .get("/api/software/use")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("find { it.name == 'Software name' }.useNumberTicket", equalTo(0))
+                .log().all();
+    }
+
+    /**
+     * Controller method: UserController.deleteUser
+     * HTTP Method: DELETE
+     * Endpoint: /api/users/{userID}
+     * Expected Status: 200 OK
+     * Scenario: Deleting a user whose tickets are in the search index.
+     * Verification: Confirms that the removed tickets are no longer found by the search.
+     */
+    @Test
+    public void deleteUser_UserWithTickets_RemovesTicketsFromSearch() throws IOException {
+        Long userID = initializeUser("username", "password", Role.Types.ROLE_USER).getId();
+        initializeTicketForUser(userID);
+        ticketSearchService.rebuildIndex();
+
+        given()
+                .auth().oauth2(jwtToken)
+                .pathParam("userID", userID)
+                .when()
+                .delete("/api/users/{userID}")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .auth().oauth2(jwtToken)
+                .queryParam("q", "unreachable website")
+                .when()
+                .get("/api/tickets/search")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header(TicketController.TOTAL_COUNT_HEADER, "0")
+                .body("size()", equalTo(0))
+                .log().all();
+    }
+
     /**
      * Controller method: UserController.deleteUser
      * HTTP Method: DELETE
@@ -0,0 +1,95 @@
+package com.projekt.repositories;
+
+import com.projekt.BaseIntegrationTest;
+import com.projekt.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchInsertIT extends BaseIntegrationTest {
+    private static final int ROW_COUNT = 200;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUpTestData() {
+        clearDatabase();
+    }
+
+    /**
+     * Repository method: TicketRepository.saveAll
+     * Scenario: Seeding 200 tickets in a single transaction.
+     * Verification: Confirms the tickets are written in JDBC batches of 50 with IDs allocated in blocks of 50,
+     * instead of one INSERT per row.
+     */
+    @Test
+    public void saveAllTickets_InsertsInBatches() {
+        Category category = initializeCategory("Category");
+        Priority priority = initializePriority("Priority");
+        Status status = initializeStatus("New", false, true);
+        Software software = initializeSingleSoftware("Software name", "Software description");
+        User user = userRepository.findById(1L).orElseThrow();
+
+        List<Ticket> tickets = IntStream.range(0, ROW_COUNT)
+                .mapToObj(i -> {
+                    Ticket ticket = new Ticket();
+                    ticket.setTitle("Ticket title " + i);
+                    ticket.setDescription("Ticket description " + i);
+                    ticket.setCategory(category);
+                    ticket.setPriority(priority);
+                    ticket.setStatus(status);
+                    ticket.setSoftware(software);
+                    ticket.setVersion("1.0");
+                    ticket.setUser(user);
+                    return ticket;
+                })
+                .toList();
+
+        // Per block of 50 rows: one ID block (a read and an update) and one batched INSERT.
+        int batches = ROW_COUNT / 50;
+        assertWithinQueryBudget(batches * 3L + 2, batches + 1, () -> transactionTemplate.executeWithoutResult(
+                transactionStatus -> ticketRepository.saveAll(tickets)
+        ));
+
+        assertEquals(ROW_COUNT, ticketRepository.count());
+    }
+
+    /**
+     * Repository method: UserRepository.saveAll
+     * Scenario: Importing 200 user accounts in a single transaction.
+     * Verification: Confirms the users are written in JDBC batches of 50 instead of one INSERT per row.
+     */
+    @Test
+    public void saveAllUsers_InsertsInBatches() {
+        Role role = roleRepository.findByType(Role.Types.ROLE_USER);
+        long userCount = userRepository.count();
+
+        List<User> users = IntStream.range(0, ROW_COUNT)
+                .mapToObj(i -> new User("imported" + i, "password", "imported" + i + "@email.com", "Name", "Surname", role))
+                .toList();
+
+        // Per block of 50 rows: one ID block (a read and an update) and one batched INSERT.
+        int batches = ROW_COUNT / 50;
+        assertWithinQueryBudget(batches * 3L + 2, batches + 1, () -> transactionTemplate.executeWithoutResult(
+                transactionStatus -> userRepository.saveAll(users)
+        ));
+
+        assertEquals(userCount + ROW_COUNT, userRepository.count());
+    }
+}
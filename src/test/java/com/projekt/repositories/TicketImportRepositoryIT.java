@@ -0,0 +1,123 @@
+package com.projekt.repositories;
+
+import com.projekt.BaseIntegrationTest;
+import com.projekt.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TicketImportRepositoryIT extends BaseIntegrationTest {
+    @Autowired
+    private TicketImportRepository ticketImportRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketReplyRepository ticketReplyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category category;
+    private Priority priority;
+    private Status status;
+    private Software software;
+    private User user;
+
+    @BeforeEach
+    public void setUpTestData() {
+        clearDatabase();
+
+        category = initializeCategory("Category");
+        priority = initializePriority("Priority");
+        status = initializeStatus("New", false, true);
+        software = initializeSingleSoftware("Software name", "Software description");
+        user = userRepository.findById(1L).orElseThrow();
+    }
+
+    /**
+     * Repository method: TicketImportRepository.insertAll
+     * Scenario: Importing a ticket with a reply while Hibernate holds a block of IDs from the same generator rows,
+     * then saving enough tickets and replies through JPA to use up that block.
+     * Verification: Confirms no ID is handed out twice, so every insert succeeds.
+     */
+    @Test
+    public void insertAll_AfterEntityInserts_DoesNotReuseEntityIds() {
+        ticketRepository.save(ticket("Saved before the import"));
+
+        TicketImportRepository.TicketRow row = new TicketImportRepository.TicketRow(
+                "Imported ticket", "Imported description", LocalDate.now(), category.getId(), priority.getId(),
+                status.getId(), "1.0", software.getId(), user.getId(),
+                List.of(new TicketImportRepository.ReplyRow(user.getId(), "Imported reply", LocalDate.now()))
+        );
+        transactionTemplate.executeWithoutResult(transactionStatus -> ticketImportRepository.insertAll(List.of(row), Instant.now()));
+
+        List<Ticket> tickets = IntStream.range(0, 50)
+                .mapToObj(i -> {
+                    Ticket ticket = ticket("Saved after the import " + i);
+                    ticket.getReplies().add(ticketReplyRepository.save(new TicketReply(user, "Reply " + i, LocalDate.now())));
+                    return ticket;
+                })
+                .toList();
+        ticketRepository.saveAll(tickets);
+
+        assertEquals(52, ticketRepository.count());
+        assertEquals(51, ticketReplyRepository.count());
+    }
+
+    /**
+     * Repository method: TicketImportRepository.insertAll
+     * Scenario: Another connection locks the ticket ID generator row while an imported batch is inserted but not
+     * committed yet.
+     * Verification: Confirms the batch transaction does not hold the lock, so regular inserts do not wait for it.
+     */
+    @Test
+    public void insertAll_UncommittedBatch_DoesNotLockIdGenerator() {
+        TicketImportRepository.TicketRow row = new TicketImportRepository.TicketRow(
+                "Imported ticket", "Imported description", LocalDate.now(), category.getId(), priority.getId(),
+                status.getId(), "1.0", software.getId(), user.getId(), List.of()
+        );
+
+        transactionTemplate.executeWithoutResult(transactionStatus -> {
+            ticketImportRepository.insertAll(List.of(row), Instant.now());
+
+            CompletableFuture<Long> lock = CompletableFuture.supplyAsync(() -> jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_generators WHERE name = 'tickets' FOR UPDATE NOWAIT", Long.class));
+            assertDoesNotThrow(() -> lock.get(10, TimeUnit.SECONDS));
+        });
+
+        assertEquals(1, ticketRepository.count());
+    }
+
+    private Ticket ticket(String title) {
+        Ticket ticket = new Ticket();
+        ticket.setTitle(title);
+        ticket.setDescription("Ticket description");
+        ticket.setCategory(category);
+        ticket.setPriority(priority);
+        ticket.setStatus(status);
+        ticket.setSoftware(software);
+        ticket.setVersion("1.0");
+        ticket.setUser(user);
+        return ticket;
+    }
+}
@@ -0,0 +1,186 @@
+package com.projekt.services;
+
+import com.projekt.exceptions.FileTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FileSystemAttachmentStorageTests {
+    // SHA-256 of "content".
+    private static final String CONTENT_HASH = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+
+    @TempDir
+    private Path root;
+
+    private FileSystemAttachmentStorage attachmentStorage;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        attachmentStorage = new FileSystemAttachmentStorage();
+        ReflectionTestUtils.setField(attachmentStorage, "storagePath", root.toString());
+        attachmentStorage.createDirectories();
+    }
+
+    /**
+     * Method: StoredContent store(InputStream content)
+     * Description: Content is stored under its SHA-256 hash in a directory sharded by the first characters of the hash.
+     * Expected return: Hash and size of the content, which can be read back from the storage.
+     */
+    @Test
+    void store_newContent_shouldStoreUnderHashPath() throws IOException {
+        AttachmentStorage.StoredContent stored = store("content");
+
+        assertEquals(CONTENT_HASH, stored.hash());
+        assertEquals(7, stored.size());
+        assertTrue(Files.exists(root.resolve("ed").resolve("70").resolve(CONTENT_HASH)));
+
+        try (InputStream content = attachmentStorage.load(stored.hash()).getInputStream()) {
+            assertEquals("content", new String(content.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Method: StoredContent store(InputStream content)
+     * Description: Storing the same content twice keeps a single copy and leaves no temporary files behind.
+     * Expected return: The same hash for both calls.
+     */
+    @Test
+    void store_duplicateContent_shouldKeepSingleCopy() throws IOException {
+        AttachmentStorage.StoredContent first = store("content");
+        AttachmentStorage.StoredContent second = store("content");
+
+        assertEquals(first.hash(), second.hash());
+        assertEquals(List.of(CONTENT_HASH), findStoredBefore(Instant.now().plusSeconds(60)));
+
+        try (Stream<Path> tempFiles = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, tempFiles.count());
+        }
+    }
+
+    /**
+     * Method: boolean deleteStoredBefore(String hash, Instant storedBefore)
+     * Description: Deleted content is no longer listed by the storage.
+     * Expected return: True and an empty list of stored hashes.
+     */
+    @Test
+    void deleteStoredBefore_storedContent_shouldRemoveContent() throws IOException {
+        AttachmentStorage.StoredContent stored = store("content");
+
+        assertTrue(attachmentStorage.deleteStoredBefore(stored.hash(), Instant.now().plusSeconds(60)));
+
+        assertEquals(List.of(), findStoredBefore(Instant.now().plusSeconds(60)));
+    }
+
+    /**
+     * Method: boolean deleteStoredBefore(String hash, Instant storedBefore)
+     * Description: Content refreshed by a new upload after the cutoff was taken is kept.
+     * Expected return: False and the content is still stored.
+     */
+    @Test
+    void deleteStoredBefore_refreshedContent_shouldKeepContent() throws IOException {
+        AttachmentStorage.StoredContent stored = store("content");
+        Files.setLastModifiedTime(root.resolve("ed").resolve("70").resolve(stored.hash()), FileTime.from(Instant.now().minusSeconds(3600)));
+        Instant storedBefore = Instant.now().minusSeconds(60);
+
+        store("content");
+
+        assertFalse(attachmentStorage.deleteStoredBefore(stored.hash(), storedBefore));
+        assertTrue(attachmentStorage.load(stored.hash()).exists());
+    }
+
+    /**
+     * Method: Resource load(String hash)
+     * Description: A hash that is not a SHA-256 hex string could point outside the storage directory.
+     * Expected: IllegalArgumentException
+     */
+    @Test
+    void open_invalidHash_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> attachmentStorage.load("../../etc/passwd"));
+    }
+
+    /**
+     * Method: StoredContent store(InputStream content, long maxSize)
+     * Description: Content over the size limit is rejected while it is streamed and no partial file is kept.
+     * Expected: FileTooLargeException
+     */
+    @Test
+    void store_contentOverLimit_shouldThrowException() throws IOException {
+        assertThrows(FileTooLargeException.class, () -> attachmentStorage.store(new GeneratedContent(1025), 1024));
+
+        assertEquals(List.of(), findStoredBefore(Instant.now().plusSeconds(60)));
+        try (Stream<Path> tempFiles = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, tempFiles.count());
+        }
+    }
+
+    /**
+     * Method: StoredContent store(InputStream content, long maxSize)
+     * Description: Content larger than the whole heap is stored, so it is never held in memory. The surefire argLine
+     * keeps the heap small enough for this to stay fast.
+     * Expected return: The size of the content.
+     */
+    @Test
+    void store_contentLargerThanHeap_shouldStreamToStorage() throws IOException {
+        long maxMemory = Runtime.getRuntime().maxMemory();
+        assumeTrue(maxMemory <= 512L * 1024 * 1024, "Heap too large to exceed with a test file");
+
+        long size = maxMemory + 32L * 1024 * 1024;
+        AttachmentStorage.StoredContent stored = attachmentStorage.store(new GeneratedContent(size), size);
+
+        assertEquals(size, stored.size());
+        assertEquals(size, attachmentStorage.load(stored.hash()).contentLength());
+    }
+
+    private AttachmentStorage.StoredContent store(String content) throws IOException {
+        return attachmentStorage.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<String> findStoredBefore(Instant storedBefore) throws IOException {
+        try (Stream<String> hashes = attachmentStorage.findStoredBefore(storedBefore)) {
+            return hashes.toList();
+        }
+    }
+
+    // Produces the given number of bytes without allocating them up front.
+    private static class GeneratedContent extends InputStream {
+        private long remaining;
+
+        private GeneratedContent(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) return -1;
+            remaining--;
+            return (int) (remaining & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining == 0) return -1;
+
+            int count = (int) Math.min(length, remaining);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) (remaining - i);
+            }
+            remaining -= count;
+            return count;
+        }
+    }
+}
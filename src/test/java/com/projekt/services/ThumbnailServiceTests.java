@@ -0,0 +1,139 @@
+package com.projekt.services;
+
+import com.projekt.models.ImageRendition;
+import com.projekt.repositories.ImageRenditionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ThumbnailServiceTests {
+    @TempDir
+    private Path root;
+
+    private FileSystemAttachmentStorage attachmentStorage;
+    private ImageRenditionRepository imageRenditionRepository;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        attachmentStorage = new FileSystemAttachmentStorage();
+        ReflectionTestUtils.setField(attachmentStorage, "storagePath", root.toString());
+        attachmentStorage.createDirectories();
+
+        imageRenditionRepository = mock(ImageRenditionRepository.class);
+        when(imageRenditionRepository.findSizesByHash(anyString())).thenReturn(Set.of());
+
+        thumbnailService = new ThumbnailServiceImpl(attachmentStorage, imageRenditionRepository);
+        ReflectionTestUtils.setField(thumbnailService, "sizes", List.of(160, 640));
+    }
+
+    /**
+     * Method: void generate(String hash)
+     * Description: An image larger than every configured size gets a PNG thumbnail for each of them, scaled so its
+     * longer side matches the size and the aspect ratio is kept.
+     * Expected behavior: Two renditions are saved, each pointing at a stored thumbnail of the expected dimensions.
+     */
+    @Test
+    void generate_largeImage_shouldStoreScaledRenditions() throws IOException {
+        String hash = store(pngImage(1600, 800));
+
+        thumbnailService.generate(hash);
+
+        List<ImageRendition> renditions = savedRenditions(2);
+        for (ImageRendition rendition : renditions) {
+            assertEquals(hash, rendition.getHash());
+            assertEquals("image/png", rendition.getContentType());
+            assertFalse(rendition.isOriginal());
+
+            BufferedImage thumbnail = read(rendition.getRenditionHash());
+            assertEquals(rendition.getSize(), thumbnail.getWidth());
+            assertEquals(rendition.getSize() / 2, thumbnail.getHeight());
+        }
+    }
+
+    /**
+     * Method: void generate(String hash)
+     * Description: An image that already fits a size is not scaled up, the rendition points at the original instead.
+     * Expected behavior: The 160 rendition is a thumbnail, the 640 rendition is the original.
+     */
+    @Test
+    void generate_smallImage_shouldPointAtOriginal() throws IOException {
+        String hash = store(pngImage(400, 200));
+
+        thumbnailService.generate(hash);
+
+        for (ImageRendition rendition : savedRenditions(2)) {
+            assertEquals(rendition.getSize() == 640, rendition.isOriginal());
+        }
+    }
+
+    /**
+     * Method: void generate(String hash)
+     * Description: Content ImageIO cannot decode is served as it is instead of being retried on every request.
+     * Expected behavior: Every rendition points at the original.
+     */
+    @Test
+    void generate_undecodableContent_shouldPointAtOriginal() throws IOException {
+        String hash = store("not an image".getBytes(StandardCharsets.UTF_8));
+
+        thumbnailService.generate(hash);
+
+        for (ImageRendition rendition : savedRenditions(2)) {
+            assertTrue(rendition.isOriginal());
+            assertNull(rendition.getContentType());
+        }
+    }
+
+    /**
+     * Method: void generate(String hash)
+     * Description: Generating the renditions of content that already has all of them is idempotent.
+     * Expected behavior: Nothing is decoded or saved.
+     */
+    @Test
+    void generate_existingRenditions_shouldDoNothing() throws IOException {
+        String hash = store(pngImage(1600, 800));
+        when(imageRenditionRepository.findSizesByHash(hash)).thenReturn(Set.of(160, 640));
+
+        thumbnailService.generate(hash);
+
+        verify(imageRenditionRepository, never()).save(any());
+    }
+
+    private List<ImageRendition> savedRenditions(int count) {
+        ArgumentCaptor<ImageRendition> captor = ArgumentCaptor.forClass(ImageRendition.class);
+        verify(imageRenditionRepository, times(count)).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private String store(byte[] content) throws IOException {
+        return attachmentStorage.store(new ByteArrayInputStream(content)).hash();
+    }
+
+    private BufferedImage read(String hash) throws IOException {
+        try (InputStream content = attachmentStorage.load(hash).getInputStream()) {
+            return ImageIO.read(content);
+        }
+    }
+
+    private static byte[] pngImage(int width, int height) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", stream);
+        return stream.toByteArray();
+    }
+}
@@ -1,5 +1,6 @@
 package com.projekt.services;
 
+import com.projekt.events.TicketEvent;
 import com.projekt.exceptions.UnauthorizedActionException;
 import com.projekt.models.Status;
 import com.projekt.models.Ticket;
@@ -10,6 +11,7 @@ import com.projekt.repositories.*;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
@@ -30,6 +32,7 @@ public class TicketReplyServiceTests {
     private UserRepository userRepository;
     private JavaMailSender javaMailSender;
     private TemplateEngine templateEngine;
+    private ApplicationEventPublisher eventPublisher;
     private TicketReplyService ticketReplyService;
 
     @BeforeEach
@@ -44,12 +47,15 @@ public class TicketReplyServiceTests {
         StatusRepository statusRepository = mock(StatusRepository.class);
         javaMailSender = mock(JavaMailSender.class);
         templateEngine = mock(TemplateEngine.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        TicketTombstoneRepository ticketTombstoneRepository = mock(TicketTombstoneRepository.class);
+        ArchivedTicketRepository archivedTicketRepository = mock(ArchivedTicketRepository.class);
 
         MailService mailService = new MailService(javaMailSender, templateEngine, userRepository);
 
-        TicketService ticketService = new TicketServiceImpl(ticketRepository, mailService, userRepository, statusRepository, categoryRepository, priorityRepository, softwareRepository);
+        TicketService ticketService = new TicketServiceImpl(ticketRepository, mailService, userRepository, statusRepository, categoryRepository, priorityRepository, softwareRepository, eventPublisher, ticketTombstoneRepository, archivedTicketRepository);
 
-        ticketReplyService = new TicketReplyServiceImpl(ticketReplyRepository, ticketRepository, ticketService, mailService, userRepository);
+        ticketReplyService = new TicketReplyServiceImpl(ticketReplyRepository, ticketRepository, ticketService, mailService, userRepository, eventPublisher);
     }
 
     /**
@@ -59,6 +65,7 @@ public class TicketReplyServiceTests {
      *  - A new reply is added to the ticket.
      *  - Ticket is updated and saved.
      *  - Ticket reply is saved in the TicketReplyRepository.
+     *  - A reply event is published for the ticket.
      */
     @Test
     void addReplyToOpenTicket_ShouldAddReplySuccessfully() {
@@ -94,6 +101,7 @@ public class TicketReplyServiceTests {
 
         verify(ticketReplyRepository, times(1)).save(any(TicketReply.class));
         verify(ticketRepository, times(1)).save(ticket);
+        verify(eventPublisher, times(1)).publishEvent(new TicketEvent(ticketID, TicketEvent.Types.REPLY_ADDED));
         assertEquals(1, ticket.getReplies().size());
     }
 
@@ -1,15 +1,21 @@
 package com.projekt.services;
 
+import com.projekt.events.TicketEvent;
+import com.projekt.events.TicketStatusChange;
+import com.projekt.events.TicketStatusChangeEvent;
 import com.projekt.models.*;
+import com.projekt.payload.request.update.UpdateTicketRequest;
 import com.projekt.repositories.*;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,15 +26,19 @@ public class TicketServiceTests {
     private TicketRepository ticketRepository;
     private UserRepository userRepository;
     private StatusRepository statusRepository;
+    private CategoryRepository categoryRepository;
+    private PriorityRepository priorityRepository;
+    private SoftwareRepository softwareRepository;
     private JavaMailSender javaMailSender;
     private TemplateEngine templateEngine;
     private MailService mailService;
+    private ApplicationEventPublisher eventPublisher;
 
     @BeforeEach
     public void setUp() {
-        CategoryRepository categoryRepository = mock(CategoryRepository.class);
-        PriorityRepository priorityRepository = mock(PriorityRepository.class);
-        SoftwareRepository softwareRepository = mock(SoftwareRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        priorityRepository = mock(PriorityRepository.class);
+        softwareRepository = mock(SoftwareRepository.class);
 
         ticketRepository = mock(TicketRepository.class);
         userRepository = mock(UserRepository.class);
@@ -36,8 +46,11 @@ public class TicketServiceTests {
         javaMailSender = mock(JavaMailSender.class);
         templateEngine = mock(TemplateEngine.class);
         mailService = mock(MailService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        TicketTombstoneRepository ticketTombstoneRepository = mock(TicketTombstoneRepository.class);
+        ArchivedTicketRepository archivedTicketRepository = mock(ArchivedTicketRepository.class);
 
-        ticketService = new TicketServiceImpl(ticketRepository, mailService, userRepository, statusRepository, categoryRepository, priorityRepository, softwareRepository);
+        ticketService = new TicketServiceImpl(ticketRepository, mailService, userRepository, statusRepository, categoryRepository, priorityRepository, softwareRepository, eventPublisher, ticketTombstoneRepository, archivedTicketRepository);
     }
 
     /**
@@ -158,4 +171,82 @@ public class TicketServiceTests {
         verify(mailService, times(1)).sendChangeStatusMessage(userID, ticket.getTitle(), newStatus.getName());
         assertEquals(newStatus.getName(), ticket.getStatus().getName());
     }
+
+    /**
+     * Method: int changeStatus(List<Long> ticketIDs, Long statusID)
+     * Description: Verifies that a bulk status change updates the tickets in one statement and defers the notifications.
+     * Expected behavior:
+     *  - Only the tickets in another status are updated and counted.
+     *  - The usage counters move from the previous statuses to the new one.
+     *  - One event is published for the whole batch instead of one per ticket, and no email is sent inline.
+     */
+    @Test
+    void changeStatus_Bulk_ShouldUpdateTicketsAndPublishOneNotificationEvent() throws MessagingException {
+        long newStatusID = 3;
+        List<Long> ticketIDs = List.of(1L, 2L, 3L);
+
+        Status newStatus = new Status();
+        newStatus.setId(newStatusID);
+        newStatus.setName("Closed");
+
+        List<TicketStatusChange> changes = List.of(
+                new TicketStatusChange(1L, "First", 10L, 1L),
+                new TicketStatusChange(2L, "Second", 11L, 1L)
+        );
+
+        when(statusRepository.findById(newStatusID)).thenReturn(Optional.of(newStatus));
+        when(ticketRepository.findStatusChanges(ticketIDs, newStatusID)).thenReturn(changes);
+
+        assertEquals(2, ticketService.changeStatus(ticketIDs, newStatusID));
+
+        verify(ticketRepository, times(1)).updateStatus(eq(List.of(1L, 2L)), eq(newStatus), any());
+        verify(statusRepository, times(1)).adjustUseNumber(1L, -2);
+        verify(statusRepository, times(1)).adjustUseNumber(newStatusID, 2);
+        verify(eventPublisher, times(1)).publishEvent(new TicketStatusChangeEvent(newStatusID, "Closed", changes));
+        verify(eventPublisher, never()).publishEvent(any(TicketEvent.class));
+        verify(mailService, never()).sendChangeStatusMessage(anyLong(), anyString(), anyString());
+    }
+
+    /**
+     * Method: void update(UpdateTicketRequest request, Long expectedRevision, Principal principal)
+     * Description: Verifies that an update only moves the usage counters of the lookups that changed.
+     * Expected behavior:
+     *  - The software counters move from the previous software to the new one.
+     *  - The category, priority and status counters are not touched.
+     */
+    @Test
+    void update_SoftwareChanged_ShouldAdjustOnlySoftwareUseNumbers() {
+        String username = "operator";
+        Category category = new Category();
+        category.setId(1L);
+        Priority priority = new Priority();
+        priority.setId(2L);
+        Status status = new Status();
+        status.setId(3L);
+        Software previousSoftware = new Software();
+        previousSoftware.setId(4L);
+        Software newSoftware = new Software();
+        newSoftware.setId(5L);
+
+        Ticket ticket = new Ticket();
+        ticket.setId(10L);
+        ticket.setCategory(category);
+        ticket.setPriority(priority);
+        ticket.setStatus(status);
+        ticket.setSoftware(previousSoftware);
+
+        when(ticketRepository.findById(10L)).thenReturn(Optional.of(ticket));
+        when(userRepository.existsByUsernameIgnoreCaseAndRoleType(username, Role.Types.ROLE_OPERATOR)).thenReturn(true);
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(priorityRepository.findById(2L)).thenReturn(Optional.of(priority));
+        when(softwareRepository.findById(5L)).thenReturn(Optional.of(newSoftware));
+
+        ticketService.update(new UpdateTicketRequest(10L, "Title", "Description", 1L, 2L, "1.0", 5L), null, () -> username);
+
+        verify(softwareRepository, times(1)).adjustUseNumberTicket(4L, -1);
+        verify(softwareRepository, times(1)).adjustUseNumberTicket(5L, 1);
+        verify(categoryRepository, never()).adjustUseNumber(anyLong(), anyLong());
+        verify(priorityRepository, never()).adjustUseNumber(anyLong(), anyLong());
+        verify(statusRepository, never()).adjustUseNumber(anyLong(), anyLong());
+    }
 }
@@ -0,0 +1,55 @@
+package com.projekt.services;
+
+import com.projekt.events.TicketStatusChange;
+import com.projekt.events.TicketStatusChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+public class TicketStreamServiceTests {
+    private static final int BUFFER_SIZE = 4;
+
+    private TicketStreamServiceImpl ticketStreamService;
+
+    @BeforeEach
+    public void setUp() {
+        ticketStreamService = new TicketStreamServiceImpl();
+        ReflectionTestUtils.setField(ticketStreamService, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(ticketStreamService, "bufferSize", BUFFER_SIZE);
+        ReflectionTestUtils.setField(ticketStreamService, "senderThreads", 1);
+        ticketStreamService.startSender();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ticketStreamService.stopSender();
+    }
+
+    /**
+     * Method: void onTicketStatusChangeEvent(TicketStatusChangeEvent event)
+     * Description: Verifies that a bulk status change covering more tickets than a subscriber's buffer holds does
+     * not disconnect the subscriber.
+     * Expected behavior:
+     *  - The change is queued as a single message, so the buffer does not overflow.
+     *  - The subscriber's emitter is still open afterwards.
+     */
+    @Test
+    void onTicketStatusChangeEvent_MoreTicketsThanBufferSize_KeepsSubscriber() {
+        SseEmitter emitter = ticketStreamService.subscribe();
+
+        List<TicketStatusChange> changes = LongStream.rangeClosed(1, BUFFER_SIZE * 10)
+                .mapToObj(ticketID -> new TicketStatusChange(ticketID, "Title", 1L, 1L))
+                .toList();
+        ticketStreamService.onTicketStatusChangeEvent(new TicketStatusChangeEvent(3L, "Closed", changes));
+
+        // A disconnected subscriber's emitter is completed and rejects further messages.
+        assertDoesNotThrow(() -> emitter.send(SseEmitter.event().comment("still connected")));
+    }
+}
@@ -0,0 +1,75 @@
+package com.projekt.services;
+
+import com.projekt.BaseIntegrationTest;
+import com.projekt.models.Ticket;
+import com.projekt.repositories.CategoryRepository;
+import com.projekt.repositories.PriorityRepository;
+import com.projekt.repositories.SoftwareRepository;
+import com.projekt.repositories.StatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UsageCounterServiceIT extends BaseIntegrationTest {
+    @Autowired
+    private UsageCounterService usageCounterService;
+
+    @Autowired
+    private TicketArchiveService ticketArchiveService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PriorityRepository priorityRepository;
+
+    @Autowired
+    private StatusRepository statusRepository;
+
+    @Autowired
+    private SoftwareRepository softwareRepository;
+
+    @BeforeEach
+    public void setUpTestData() {
+        clearDatabase();
+    }
+
+    /**
+     * Service method: UsageCounterService.reconcile
+     * Scenario: The counters drifted from the stored rows, e.g. after rows were changed outside the application,
+     * and one closed ticket was moved to the archive.
+     * Verification: Confirms every counter is recounted from the hot and archived tickets and the knowledge articles.
+     */
+    @Test
+    public void reconcile_DriftedCounters_RecountsStoredRows() throws IOException {
+        Long softwareID = initializeSingleSoftware("Software name", "Software description").getId();
+        List<Ticket> ticketList = initializeTicket(softwareID);
+        initializeKnowledge(softwareID);
+        assertEquals(1, ticketArchiveService.archiveClosedBefore(Instant.now().plusSeconds(1)));
+
+        Ticket openTicket = ticketList.get(0);
+        Ticket closedTicket = ticketList.get(2);
+        categoryRepository.adjustUseNumber(openTicket.getCategory().getId(), 5);
+        priorityRepository.adjustUseNumber(closedTicket.getPriority().getId(), -1);
+        statusRepository.adjustUseNumber(closedTicket.getStatus().getId(), 3);
+        softwareRepository.adjustUseNumberTicket(softwareID, -3);
+        softwareRepository.adjustUseNumberKnowledge(softwareID, 4);
+
+        usageCounterService.reconcile();
+
+        assertEquals(2, categoryRepository.findById(openTicket.getCategory().getId()).orElseThrow().getUseNumber());
+        assertEquals(1, categoryRepository.findById(closedTicket.getCategory().getId()).orElseThrow().getUseNumber());
+        assertEquals(2, priorityRepository.findById(openTicket.getPriority().getId()).orElseThrow().getUseNumber());
+        assertEquals(1, priorityRepository.findById(closedTicket.getPriority().getId()).orElseThrow().getUseNumber());
+        assertEquals(2, statusRepository.findById(openTicket.getStatus().getId()).orElseThrow().getUseNumber());
+        assertEquals(1, statusRepository.findById(closedTicket.getStatus().getId()).orElseThrow().getUseNumber());
+        assertEquals(3, softwareRepository.findById(softwareID).orElseThrow().getUseNumberTicket());
+        assertEquals(2, softwareRepository.findById(softwareID).orElseThrow().getUseNumberKnowledge());
+    }
+}
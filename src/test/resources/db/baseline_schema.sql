@@ -0,0 +1,26 @@
+-- Schema that ddl-auto=update created from the entities before migrations were introduced, with the column lengths
+-- taken from their size constraints and the generated constraint names.
+
+create table roles (id bigint not null auto_increment, type enum ('ROLE_ADMIN','ROLE_OPERATOR','ROLE_USER') not null, primary key (id)) engine=InnoDB;
+create table users (id bigint not null auto_increment, role_id bigint not null, surname varchar(60) not null, username varchar(36) not null, name varchar(30) not null, email varchar(255) not null, password varchar(255) not null, primary key (id)) engine=InnoDB;
+create table categories (id bigint not null auto_increment, name varchar(20) not null, primary key (id)) engine=InnoDB;
+create table priorities (id bigint not null auto_increment, name varchar(20) not null, primary key (id)) engine=InnoDB;
+create table statuses (close_ticket bit not null, is_default bit not null, id bigint not null auto_increment, name varchar(20) not null, primary key (id)) engine=InnoDB;
+create table software (id bigint not null auto_increment, name varchar(30) not null, description varchar(200) not null, primary key (id)) engine=InnoDB;
+create table knowledgebases (created_date date not null, id bigint not null auto_increment, software_id bigint not null, title varchar(50) not null, content varchar(360) not null, primary key (id)) engine=InnoDB;
+create table tickets (created_date date not null, category_id bigint not null, id bigint not null auto_increment, priority_id bigint not null, software_id bigint not null, status_id bigint not null, user_id bigint not null, version varchar(10) not null, title varchar(100) not null, description varchar(500) not null, primary key (id)) engine=InnoDB;
+create table images (id bigint not null auto_increment, ticket_id bigint, name varchar(255) not null, content MEDIUMBLOB not null, primary key (id)) engine=InnoDB;
+create table replies (created_date date not null, id bigint not null auto_increment, ticket_id bigint, user_id bigint not null, content varchar(500) not null, primary key (id)) engine=InnoDB;
+
+alter table users add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table users add constraint FKp56c1712k691lhsyewcssf40f foreign key (role_id) references roles (id);
+alter table knowledgebases add constraint FKq1cnx1jbb4kb4g6nh9w2f6gdr foreign key (software_id) references software (id);
+alter table tickets add constraint FK3ij4v3t2ks2pyg53wxpdlsoq9 foreign key (category_id) references categories (id);
+alter table tickets add constraint FKpbvu9bx7y8vm3fqgd8ro4bqkg foreign key (priority_id) references priorities (id);
+alter table tickets add constraint FK9c0nb7lb2ov4l9xogvtqtwydt foreign key (software_id) references software (id);
+alter table tickets add constraint FKg6i3mjhpsxfytkwihrp1hbuhe foreign key (status_id) references statuses (id);
+alter table tickets add constraint FK4eqsebpimnjen0q46ja6fl2hl foreign key (user_id) references users (id);
+alter table images add constraint FKfgxkyqdwbymk4t4ydc7bn1oxq foreign key (ticket_id) references tickets (id);
+alter table replies add constraint FKj8ooc2cfmmmjuof2b4vyel5nx foreign key (ticket_id) references tickets (id);
+alter table replies add constraint FKaavaocqq9o3n6cyqpvyf1nh1x foreign key (user_id) references users (id);